@@ -0,0 +1,34 @@
+package benchmark.jmh;
+
+import model.BoardModel;
+import model.utils.MazeGenerator;
+
+import java.util.Random;
+
+final class BoardFixtures {
+    static final long SEED = 42;
+
+    private BoardFixtures() {
+    }
+
+    static BoardModel board(int size) {
+        BoardModel board = new BoardModel(size);
+        board.loadMaze(new MazeGenerator(size, size, new Random(SEED)).generate());
+        return board;
+    }
+
+    // Two horizontally adjacent free cells at or below fromRow, as {row, col, row, col + 1}.
+    static int[] corridor(BoardModel board, int fromRow) {
+        int size = board.getSize();
+        for (int row = fromRow; row < size - 1; row++) {
+            for (int col = 1; col < size - 2; col++) {
+                if (!board.isWall(row, col) && !board.isWall(row, col + 1)
+                        && board.getOccupant(row, col) == BoardModel.NO_ENTITY
+                        && board.getOccupant(row, col + 1) == BoardModel.NO_ENTITY) {
+                    return new int[]{row, col, row, col + 1};
+                }
+            }
+        }
+        throw new IllegalStateException("No open corridor on a " + size + "x" + size + " board");
+    }
+}
@@ -0,0 +1,57 @@
+package benchmark.jmh;
+
+import model.BoardModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BoardOperationsBenchmark {
+    @Param({"30", "100", "500"})
+    public int size;
+
+    private BoardModel board;
+    private int[] pacmanCells;
+    private int[] ghostCells;
+    private boolean pacmanForward;
+    private boolean ghostForward;
+    private int probe;
+
+    @Setup
+    public void setUp() {
+        board = BoardFixtures.board(size);
+        ghostCells = BoardFixtures.corridor(board, 1);
+        board.placeGhost(BoardModel.FIRST_GHOST_ENTITY, ghostCells[0], ghostCells[1]);
+        pacmanCells = BoardFixtures.corridor(board, ghostCells[0] + 1);
+        board.placePacman(pacmanCells[0], pacmanCells[1]);
+    }
+
+    @Benchmark
+    public int movePacman() {
+        pacmanForward = !pacmanForward;
+        return pacmanForward
+                ? board.movePacman(pacmanCells[0], pacmanCells[1], pacmanCells[2], pacmanCells[3])
+                : board.movePacman(pacmanCells[2], pacmanCells[3], pacmanCells[0], pacmanCells[1]);
+    }
+
+    @Benchmark
+    public boolean moveGhost() {
+        ghostForward = !ghostForward;
+        return ghostForward
+                ? board.moveGhost(ghostCells[0], ghostCells[1], ghostCells[2], ghostCells[3])
+                : board.moveGhost(ghostCells[2], ghostCells[3], ghostCells[0], ghostCells[1]);
+    }
+
+    @Benchmark
+    public int getTile() {
+        int cell = probe++ % (size * size);
+        return board.getTile(cell / size, cell % size);
+    }
+
+    @Benchmark
+    public int[] findPacmanPosition() {
+        return board.findPacmanPosition();
+    }
+}
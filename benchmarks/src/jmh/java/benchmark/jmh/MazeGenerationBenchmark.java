@@ -0,0 +1,27 @@
+package benchmark.jmh;
+
+import model.utils.MazeGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MazeGenerationBenchmark {
+    @Param({"10", "50", "100", "500", "1000", "2000", "4000"})
+    public int size;
+
+    private long seed;
+
+    @Benchmark
+    public int[][] generate() {
+        return new MazeGenerator(size, size, new SplittableRandom(seed++)).generate();
+    }
+
+    @Benchmark
+    public byte[] generateFlat() {
+        return new MazeGenerator(size, size, new SplittableRandom(seed++)).generateFlat();
+    }
+}
@@ -0,0 +1,38 @@
+package benchmark.jmh;
+
+import model.GameSession;
+import model.config.SessionSettings;
+import model.engine.GhostSystem;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SessionBenchmark {
+    @Param({"30", "100", "500"})
+    public int size;
+
+    private GameSession session;
+    private GhostSystem ghostSystem;
+
+    @Setup
+    public void setUp() {
+        session = GameSession.generate(size, SessionSettings.DEFAULT, BoardFixtures.SEED);
+        // Keep the game running however often the ghost reaches Pacman.
+        session.setInvincible(true);
+        ghostSystem = session.getGhostSystem();
+    }
+
+    @Benchmark
+    public boolean checkVictory() {
+        session.checkVictory();
+        return session.isWon();
+    }
+
+    @Benchmark
+    public long ghostStep() {
+        return ghostSystem.step();
+    }
+}
@@ -0,0 +1,23 @@
+package benchmark.jmh;
+
+import model.utils.MazeGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// One tile spans 128 lattice cells, 257 board cells; smaller boards would time a single partial tile
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TiledMazeGenerationBenchmark {
+    @Param({"500", "1000", "2000", "4000"})
+    public int size;
+
+    private long seed;
+
+    @Benchmark
+    public byte[] generateTiled() {
+        return new MazeGenerator(size, size, new SplittableRandom(seed++)).generateTiled();
+    }
+}
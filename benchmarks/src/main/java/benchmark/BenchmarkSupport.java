@@ -0,0 +1,25 @@
+package benchmark;
+
+import java.lang.management.ManagementFactory;
+
+public final class BenchmarkSupport {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private BenchmarkSupport() {
+    }
+
+    public static long allocatedBytes() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+
+    public static void report(String name, long operations, long elapsedNanos, long allocated) {
+        double nsPerOp = (double) elapsedNanos / operations;
+        double bytesPerOp = (double) allocated / operations;
+        System.out.printf("%-32s %12d ops %10.2f ns/op %10.4f B/op%n", name, operations, nsPerOp, bytesPerOp);
+    }
+
+    public static int intArg(String[] args, int position, int defaultValue) {
+        return args.length > position ? Integer.parseInt(args[position]) : defaultValue;
+    }
+}
@@ -0,0 +1,118 @@
+package benchmark;
+
+import model.BoardModel;
+import model.command.BoardCommandQueue;
+import model.threads.BoardWriterThread;
+import model.utils.MazeGenerator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BoardContentionBenchmark {
+    private static final int BATCH_SIZE = 16;
+
+    private enum Mode { UNSYNCHRONIZED, SYNCHRONIZED, COMMAND_QUEUE }
+
+    public static void main(String[] args) throws InterruptedException {
+        int size = BenchmarkSupport.intArg(args, 0, 100);
+        int producers = BenchmarkSupport.intArg(args, 1, Runtime.getRuntime().availableProcessors());
+        int operations = BenchmarkSupport.intArg(args, 2, 200_000);
+        int[][] maze = new MazeGenerator(size, size).generate();
+
+        for (int warmup = 0; warmup < 3; warmup++) {
+            for (Mode mode : Mode.values()) run(mode, maze, producers, operations / 10, false);
+        }
+        for (Mode mode : Mode.values()) run(mode, maze, producers, operations, true);
+    }
+
+    private static void run(Mode mode, int[][] maze, int producers, int operations, boolean print) throws InterruptedException {
+        BoardModel board = new BoardModel(maze.length);
+        board.loadMaze(maze);
+        int[] walkable = walkableCells(board);
+        AtomicInteger failures = new AtomicInteger();
+        BoardCommandQueue commands = new BoardCommandQueue();
+        BoardWriterThread writer = null;
+        if (mode == Mode.COMMAND_QUEUE) {
+            writer = new BoardWriterThread(board, commands);
+            writer.start();
+        }
+
+        List<Thread> threads = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int p = 0; p < producers; p++) {
+            long seed = p;
+            Thread thread = new Thread(() -> produce(mode, board, commands, walkable, operations, seed, failures));
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) thread.join();
+        if (writer != null) {
+            CountDownLatch drained = new CountDownLatch(1);
+            commands.submit(b -> drained.countDown());
+            drained.await();
+            writer.stopThread();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (print) {
+            long total = (long) producers * operations;
+            System.out.printf("%-16s %2d producers %10.0f ops/s  failures=%d  indexErrors=%d%n",
+                    mode, producers, total / (elapsed / 1e9), failures.get(), indexErrors(board));
+        }
+    }
+
+    private static void produce(Mode mode, BoardModel board, BoardCommandQueue commands, int[] walkable,
+                                int operations, long seed, AtomicInteger failures) {
+        SplittableRandom random = new SplittableRandom(seed);
+        BoardCommandQueue.Batch batch = commands.batch();
+        int size = board.getSize();
+        for (int i = 0; i < operations; i++) {
+            int cell = walkable[random.nextInt(walkable.length)];
+            int tile = random.nextBoolean() ? BoardModel.DOT : BoardModel.BOOST_HEALTH + random.nextInt(5);
+            int row = cell / size;
+            int col = cell % size;
+            try {
+                switch (mode) {
+                    case UNSYNCHRONIZED -> board.setTile(row, col, tile);
+                    case SYNCHRONIZED -> {
+                        synchronized (board) {
+                            board.setTile(row, col, tile);
+                        }
+                    }
+                    case COMMAND_QUEUE -> {
+                        batch.add(b -> b.setTile(row, col, tile));
+                        if ((i + 1) % BATCH_SIZE == 0) batch.submit();
+                    }
+                }
+            } catch (RuntimeException e) {
+                failures.incrementAndGet();
+            }
+        }
+        batch.submit();
+    }
+
+    private static int[] walkableCells(BoardModel board) {
+        int cells = board.getSize() * board.getSize();
+        int count = 0;
+        int[] walkable = new int[cells];
+        for (int i = 0; i < cells; i++) {
+            if (board.getTileFast(i) != BoardModel.WALL) walkable[count++] = i;
+        }
+        return Arrays.copyOf(walkable, count);
+    }
+
+    private static int indexErrors(BoardModel board) {
+        int[] actual = new int[BoardModel.TILE_TYPES];
+        int cells = board.getSize() * board.getSize();
+        for (int i = 0; i < cells; i++) actual[board.getTileFast(i)]++;
+        int errors = 0;
+        for (int type = 0; type < BoardModel.TILE_TYPES; type++) {
+            errors += Math.abs(actual[type] - board.getTileCount(type));
+        }
+        return errors;
+    }
+}
@@ -0,0 +1,110 @@
+package benchmark;
+
+import model.BoardModel;
+import model.utils.MazeGenerator;
+
+public class BoardModelBenchmark {
+    private static int sink;
+
+    public static void main(String[] args) {
+        int size = BenchmarkSupport.intArg(args, 0, 100);
+        int rounds = BenchmarkSupport.intArg(args, 1, 200);
+        BoardModel board = new BoardModel(size);
+        board.loadMaze(new MazeGenerator(size, size).generate());
+
+        for (int warmup = 0; warmup < 5; warmup++) {
+            readTiles(board, rounds);
+            readTilesByCoordinate(board, rounds);
+            writeTiles(board, rounds);
+        }
+
+        long allocated = BenchmarkSupport.allocatedBytes();
+        long start = System.nanoTime();
+        long operations = readTiles(board, rounds);
+        BenchmarkSupport.report("getTileFast", operations, System.nanoTime() - start, BenchmarkSupport.allocatedBytes() - allocated);
+
+        allocated = BenchmarkSupport.allocatedBytes();
+        start = System.nanoTime();
+        operations = readTilesByCoordinate(board, rounds);
+        BenchmarkSupport.report("getTile(row, col)", operations, System.nanoTime() - start, BenchmarkSupport.allocatedBytes() - allocated);
+
+        allocated = BenchmarkSupport.allocatedBytes();
+        start = System.nanoTime();
+        operations = writeTiles(board, rounds);
+        BenchmarkSupport.report("setTileFast", operations, System.nanoTime() - start, BenchmarkSupport.allocatedBytes() - allocated);
+
+        int[] corridor = findCorridor(board);
+        if (corridor != null) {
+            board.placeGhost(BoardModel.FIRST_GHOST_ENTITY, corridor[0], corridor[1]);
+            moveGhostBackAndForth(board, corridor, rounds * 1000);
+            allocated = BenchmarkSupport.allocatedBytes();
+            start = System.nanoTime();
+            operations = moveGhostBackAndForth(board, corridor, rounds * 10000);
+            BenchmarkSupport.report("moveGhost", operations, System.nanoTime() - start, BenchmarkSupport.allocatedBytes() - allocated);
+        }
+
+        System.out.println("checksum " + sink);
+    }
+
+    private static long readTiles(BoardModel board, int rounds) {
+        int cells = board.getSize() * board.getSize();
+        int dots = 0;
+        for (int round = 0; round < rounds; round++) {
+            for (int i = 0; i < cells; i++) {
+                if (board.getTileFast(i) == BoardModel.DOT) dots++;
+            }
+        }
+        sink += dots;
+        return (long) rounds * cells;
+    }
+
+    private static long readTilesByCoordinate(BoardModel board, int rounds) {
+        int size = board.getSize();
+        int walls = 0;
+        for (int round = 0; round < rounds; round++) {
+            for (int r = 0; r < size; r++) {
+                for (int c = 0; c < size; c++) {
+                    if (board.isWall(r, c)) walls++;
+                }
+            }
+        }
+        sink += walls;
+        return (long) rounds * size * size;
+    }
+
+    private static int[] findCorridor(BoardModel board) {
+        int size = board.getSize();
+        for (int r = 1; r < size - 1; r++) {
+            for (int c = 1; c < size - 2; c++) {
+                if (!board.isWall(r, c) && !board.isWall(r, c + 1)
+                        && board.getOccupant(r, c) == BoardModel.NO_ENTITY
+                        && board.getOccupant(r, c + 1) == BoardModel.NO_ENTITY) {
+                    return new int[]{r, c};
+                }
+            }
+        }
+        return null;
+    }
+
+    private static long moveGhostBackAndForth(BoardModel board, int[] corridor, int moves) {
+        int row = corridor[0];
+        int col = corridor[1];
+        int hits = 0;
+        for (int i = 0; i < moves; i += 2) {
+            if (board.moveGhost(row, col, row, col + 1)) hits++;
+            if (board.moveGhost(row, col + 1, row, col)) hits++;
+        }
+        sink += hits;
+        return moves;
+    }
+
+    private static long writeTiles(BoardModel board, int rounds) {
+        int cells = board.getSize() * board.getSize();
+        for (int round = 0; round < rounds; round++) {
+            for (int i = 0; i < cells; i++) {
+                board.setTileFast(i, board.getTileFast(i));
+            }
+        }
+        return (long) rounds * cells;
+    }
+}
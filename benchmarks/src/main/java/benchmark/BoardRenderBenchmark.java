@@ -0,0 +1,72 @@
+package benchmark;
+
+import model.GameSession;
+import model.config.SessionSettings;
+import model.utils.ResourceManager;
+import model.utils.SpriteCache;
+import view.BoardCanvas;
+import view.RenderScheduler;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// Draws frames into an off-screen image, so it also runs with -Djava.awt.headless=true.
+public class BoardRenderBenchmark {
+    public static void main(String[] args) {
+        int width = BenchmarkSupport.intArg(args, 0, 1000);
+        int height = BenchmarkSupport.intArg(args, 1, 1000);
+        int frames = BenchmarkSupport.intArg(args, 2, 300);
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+
+        for (int size : new int[]{20, 50, 100, 400}) {
+            GameSession session = GameSession.generate(size, SessionSettings.DEFAULT, 42);
+            BoardCanvas canvas = new BoardCanvas(session.getBoardModel(), session.getGhosts());
+            canvas.setSize(width, height);
+            Graphics2D g = target.createGraphics();
+            for (int i = 0; i < frames / 4; i++) canvas.paintBoard(g);
+
+            long cells = canvas.getCellsRepainted();
+            long allocated = BenchmarkSupport.allocatedBytes();
+            long start = System.nanoTime();
+            for (int i = 0; i < frames; i++) {
+                session.getGhostSystem().step();
+                canvas.paintBoard(g);
+            }
+            BenchmarkSupport.report(size + "x" + size + " frame", frames, System.nanoTime() - start,
+                    BenchmarkSupport.allocatedBytes() - allocated);
+            System.out.printf("%-32s %12.1f cells/frame of %d%n", "", (double) (canvas.getCellsRepainted() - cells) / frames,
+                    size * size);
+            g.dispose();
+        }
+        SpriteCache sprites = ResourceManager.getInstance().getSpriteCache();
+        System.out.printf("sprite cache: %d hits, %d misses, %d evictions, %d KB%n",
+                sprites.getHits(), sprites.getMisses(), sprites.getEvictions(), sprites.getSizeBytes() >> 10);
+
+        int seconds = BenchmarkSupport.intArg(args, 3, 2);
+        paced(target, 60, seconds);
+        paced(target, RenderScheduler.UNCAPPED, seconds);
+    }
+
+    // One producer stepping 256 ghosts and signalling once per ghost, as per-ghost repaint calls used to.
+    private static void paced(BufferedImage target, int fps, int seconds) {
+        GameSession session = GameSession.generate(100, SessionSettings.DEFAULT.withGhostCount(256), 42);
+        BoardCanvas canvas = new BoardCanvas(session.getBoardModel(), session.getGhosts());
+        canvas.setSize(target.getWidth(), target.getHeight());
+        Graphics2D g = target.createGraphics();
+        RenderScheduler scheduler = new RenderScheduler(() -> canvas.paintBoard(g), () -> { }, fps);
+        canvas.setRenderScheduler(scheduler);
+        scheduler.start();
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        while (System.nanoTime() < end) {
+            session.getGhostSystem().step();
+            for (int i = 0; i < 256; i++) scheduler.requestRender();
+            scheduler.requestSwingUpdate();
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        scheduler.stop();
+        g.dispose();
+        System.out.println((fps == RenderScheduler.UNCAPPED ? "uncapped" : fps + " fps") + ": " + scheduler.summary());
+    }
+}
@@ -0,0 +1,35 @@
+package benchmark;
+
+import model.GameSession;
+import model.config.SessionSettings;
+import model.engine.GhostSystem;
+
+public class GhostSystemBenchmark {
+    private static long sink;
+
+    public static void main(String[] args) {
+        int size = BenchmarkSupport.intArg(args, 0, 1000);
+        int maxGhosts = BenchmarkSupport.intArg(args, 1, 1024);
+        int rounds = BenchmarkSupport.intArg(args, 2, 2000);
+        GhostSystem warmup = GameSession.generate(size, SessionSettings.DEFAULT.withGhostCount(64), 7).getGhostSystem();
+        for (int i = 0; i < rounds * 5; i++) sink += warmup.step();
+
+        for (int ghosts = 4; ghosts <= maxGhosts; ghosts *= 4) {
+            GameSession session = GameSession.generate(size, SessionSettings.DEFAULT.withGhostCount(ghosts), 42);
+            session.setInvincible(true);
+            GhostSystem system = session.getGhostSystem();
+            for (int i = 0; i < rounds; i++) sink += system.step();
+
+            long allocated = BenchmarkSupport.allocatedBytes();
+            long start = System.nanoTime();
+            long moves = 0;
+            for (int i = 0; i < rounds; i++) {
+                sink += system.step();
+                moves += ghosts;
+            }
+            // Every ghost in the default set has the same speed, so each step moves all of them.
+            BenchmarkSupport.report(ghosts + " ghosts, per ghost move", moves, System.nanoTime() - start,
+                    BenchmarkSupport.allocatedBytes() - allocated);
+        }
+    }
+}
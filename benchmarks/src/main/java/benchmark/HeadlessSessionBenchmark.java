@@ -0,0 +1,46 @@
+package benchmark;
+
+import model.GameSession;
+import model.entity.Direction;
+
+import java.util.SplittableRandom;
+
+public class HeadlessSessionBenchmark {
+    private static final int INPUT_INTERVAL_TICKS = 8;
+
+    public static void main(String[] args) {
+        int size = BenchmarkSupport.intArg(args, 0, 100);
+        int sessions = BenchmarkSupport.intArg(args, 1, 20);
+        int maxTicks = BenchmarkSupport.intArg(args, 2, 100_000);
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int warmup = 0; warmup < 3; warmup++) {
+            play(GameSession.generate(size), random, maxTicks / 10);
+        }
+
+        long totalTicks = 0;
+        long totalNanos = 0;
+        int finished = 0;
+        for (int i = 0; i < sessions; i++) {
+            GameSession session = GameSession.generate(size);
+            long start = System.nanoTime();
+            totalTicks += play(session, random, maxTicks);
+            totalNanos += System.nanoTime() - start;
+            if (session.isOver()) finished++;
+        }
+        System.out.printf("%dx%d board: %d sessions, %d ticks, %.0f ticks/s, %d finished%n",
+                size, size, sessions, totalTicks, totalTicks / (totalNanos / 1e9), finished);
+    }
+
+    private static long play(GameSession session, SplittableRandom random, int maxTicks) {
+        long ticks = 0;
+        while (!session.isOver() && ticks < maxTicks) {
+            if (ticks % INPUT_INTERVAL_TICKS == 0) {
+                session.setDirection(random.nextInt(Direction.COUNT));
+            }
+            session.tick();
+            ticks++;
+        }
+        return ticks;
+    }
+}
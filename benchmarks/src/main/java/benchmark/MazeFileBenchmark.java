@@ -0,0 +1,83 @@
+package benchmark;
+
+import model.BoardModel;
+import model.utils.MazeData;
+import model.utils.MazeFile;
+import model.utils.MazeGenerator;
+import model.utils.MazePack;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class MazeFileBenchmark {
+    private static final long SEED = 42;
+    private static int sink;
+
+    public static void main(String[] args) throws IOException {
+        int size = BenchmarkSupport.intArg(args, 0, 2000);
+        int rounds = BenchmarkSupport.intArg(args, 1, 10);
+        Path dir = Files.createTempDirectory("mazes");
+        Path raw = dir.resolve("raw.maze");
+        Path deflated = dir.resolve("deflated.maze");
+        Path pack = dir.resolve("levels.pack");
+
+        MazeData maze = MazeData.generate(size, size, SEED);
+        MazeFile.write(raw, maze, false);
+        MazeFile.write(deflated, maze, true);
+        MazePack.write(pack, List.of(MazeData.generate(size, size, SEED + 1), maze), true);
+        System.out.printf("%dx%d maze: %d cells, raw file %d B, deflated file %d B%n",
+                size, size, size * size, Files.size(raw), Files.size(deflated));
+
+        for (int warmup = 0; warmup < 3; warmup++) {
+            regenerate(size);
+            sink += MazeFile.load(raw).getTileCount(BoardModel.DOT);
+            sink += MazeFile.load(deflated).getTileCount(BoardModel.DOT);
+        }
+
+        long allocated = BenchmarkSupport.allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) regenerate(size);
+        BenchmarkSupport.report("regenerate + loadMaze", rounds, System.nanoTime() - start, BenchmarkSupport.allocatedBytes() - allocated);
+
+        allocated = BenchmarkSupport.allocatedBytes();
+        start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) sink += MazeFile.load(raw).getTileCount(BoardModel.DOT);
+        BenchmarkSupport.report("MazeFile.load (packed)", rounds, System.nanoTime() - start, BenchmarkSupport.allocatedBytes() - allocated);
+
+        allocated = BenchmarkSupport.allocatedBytes();
+        start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) sink += MazeFile.load(deflated).getTileCount(BoardModel.DOT);
+        BenchmarkSupport.report("MazeFile.load (deflated)", rounds, System.nanoTime() - start, BenchmarkSupport.allocatedBytes() - allocated);
+
+        MazePack levels = MazePack.open(pack);
+        allocated = BenchmarkSupport.allocatedBytes();
+        start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) sink += levels.load(1).getTileCount(BoardModel.DOT);
+        BenchmarkSupport.report("MazePack.load (deflated)", rounds, System.nanoTime() - start, BenchmarkSupport.allocatedBytes() - allocated);
+
+        BoardModel expected = new BoardModel(size);
+        expected.loadMaze(maze.tiles());
+        System.out.println("round trip matches: " + sameBoard(expected, MazeFile.load(raw))
+                + " / " + sameBoard(expected, levels.load(1)) + " (sink " + sink + ")");
+
+        Files.delete(raw);
+        Files.delete(deflated);
+        Files.delete(pack);
+        Files.delete(dir);
+    }
+
+    private static void regenerate(int size) {
+        BoardModel board = new BoardModel(size);
+        board.loadMaze(new MazeGenerator(size, size).generate(SEED));
+        sink += board.getTileCount(BoardModel.DOT);
+    }
+
+    private static boolean sameBoard(BoardModel a, BoardModel b) {
+        for (int i = 0; i < a.getSize() * a.getSize(); i++) {
+            if (a.getTileFast(i) != b.getTileFast(i) || a.getOccupantFast(i) != b.getOccupantFast(i)) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,98 @@
+package benchmark;
+
+import model.engine.ExecutionMode;
+import model.threads.GameThread;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ThreadScalingBenchmark {
+    private static final int GHOST_DELAY = 250;
+    private static final int ANIMATION_DELAY = 300;
+
+    private static final class SleepingEntity extends GameThread {
+        private final int delay;
+        private final AtomicLong steps;
+
+        private SleepingEntity(int delay, AtomicLong steps) {
+            this.delay = delay;
+            this.steps = steps;
+        }
+
+        @Override
+        protected void doAction() {
+            steps.incrementAndGet();
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void stopThread() {
+            super.stopThread();
+            interrupt();
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int maxGhosts = BenchmarkSupport.intArg(args, 0, 1024);
+        System.out.printf("%-18s %7s %14s %14s %12s %12s%n", "mode", "ghosts", "live threads", "heap delta KB", "rss delta KB", "steps/s");
+        for (ExecutionMode mode : new ExecutionMode[]{ExecutionMode.PLATFORM_THREADS, ExecutionMode.VIRTUAL_THREADS}) {
+            for (int ghosts = 4; ghosts <= maxGhosts; ghosts *= 4) {
+                run(mode, ghosts);
+            }
+        }
+    }
+
+    private static void run(ExecutionMode mode, int ghosts) throws InterruptedException {
+        System.gc();
+        Thread.sleep(200);
+        long heapBefore = usedHeap();
+        long rssBefore = residentSetKb();
+        int threadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+
+        AtomicLong steps = new AtomicLong();
+        List<GameThread> entities = new ArrayList<>();
+        for (int i = 0; i < ghosts; i++) {
+            entities.add(new SleepingEntity(GHOST_DELAY, steps));
+            entities.add(new SleepingEntity(ANIMATION_DELAY, steps));
+        }
+        for (GameThread entity : entities) entity.start(mode.threadFactory());
+
+        Thread.sleep(2000);
+        long measuredSteps = steps.get();
+        int liveThreads = ManagementFactory.getThreadMXBean().getThreadCount() - threadsBefore;
+        long heapDelta = usedHeap() - heapBefore;
+        long rssDelta = residentSetKb() - rssBefore;
+
+        for (GameThread entity : entities) entity.stopThread();
+        for (GameThread entity : entities) entity.join();
+
+        System.out.printf("%-18s %7d %14d %14d %12d %12.0f%n",
+                mode, ghosts, liveThreads, heapDelta / 1024, rssDelta, measuredSteps / 2.0);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long residentSetKb() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException ignored) {
+        }
+        return -1;
+    }
+}
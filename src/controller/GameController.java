@@ -1,16 +1,17 @@
 package controller;
 
-import model.BoardModel;
+import model.GameListener;
+import model.GameSession;
 import model.HighScoreManager;
-import model.boost.BoostEffect;
-import model.boost.BoostFactory;
-import model.boost.HealthBoost;
+import model.command.BoardCommandQueue;
 import model.config.GameConstants;
-import model.entity.GhostConfig;
+import model.config.SessionSettings;
+import model.engine.ExecutionMode;
+import model.engine.TickScheduler;
+import model.entity.Direction;
 import model.entity.Pacman;
-import model.entity.Ghost;
 import model.threads.*;
-import model.utils.MazeGenerator;
+import view.BoardView;
 import view.GameView;
 import view.MainMenuView;
 import view.HighScoresView;
@@ -22,39 +23,26 @@ import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class GameController {
     private MainMenuView mainMenuView;
     private MenuController menuController;
     private GameView gameView;
-    private BoardModel boardModel;
+    private GameSession session;
+    private BoardCommandQueue boardCommands;
+    private BoardWriterThread boardWriterThread;
+    private TickScheduler tickScheduler;
     private boolean gameRunning;
-    private Pacman pacman;
-    private List<Ghost> ghosts;
-    private PacmanAnimationThread pacmanAnimationThread;
-    private PacmanMovementThread pacmanMovementThread;
-    private GameTimerThread gameTimerThread;
-    private PowerUpGeneratorThread powerUpGeneratorThread;
-    private List<GhostThread> ghostThreads;
-    private final List<GhostAnimationThread> ghostAnimationThreads = new ArrayList<>();
-    private int score;
-    private int lives;
-    private int time;
+    private AnimationClock animationClock;
+    private final List<StepperThread> stepperThreads;
     private final HighScoreManager highScoreManager = new HighScoreManager();
-    private boolean pacmanSpeedBoost = false;
-    private boolean invincible = false;
-    private boolean ghostsFrozen = false;
-    private boolean ghostsConfused = false;
 
     public GameController() {
         this.mainMenuView = new MainMenuView();
         this.menuController = new MenuController(this, mainMenuView);
         this.gameRunning = false;
-        this.score = 0;
-        this.lives = 3;
-        this.time = 0;
-        this.ghosts = new ArrayList<>();
-        this.ghostThreads = new ArrayList<>();
+        this.stepperThreads = new ArrayList<>();
     }
 
     public void start() {
@@ -62,25 +50,18 @@ public class GameController {
     }
 
     public void startNewGame(int boardSize) {
+        startGame(boardSize, ThreadLocalRandom.current().nextLong());
+    }
+
+    public void startGame(int boardSize, long seed) {
         mainMenuView.setVisible(false);
-        score = 0;
-        lives = 3;
-        time = 0;
-        boardModel = new BoardModel(boardSize);
-        MazeGenerator generator = new MazeGenerator(boardSize, boardSize);
-        int[][] maze = generator.generate();
-        for (int r = 0; r < boardSize; r++) {
-            for (int c = 0; c < boardSize; c++) {
-                boardModel.setTile(r, c, maze[r][c]);
-            }
-        }
-        boardModel.setController(this);
-        clearGhostTiles();
-        createGameEntities();
-        gameView = new GameView(boardModel, ghosts);
-        gameView.updateScore(score);
-        gameView.updateLives(lives);
-        gameView.updateTime(time);
+        session = GameSession.generateCached(boardSize, SessionSettings.DEFAULT, seed);
+        gameView = new GameView(session.getBoardModel(), session.getGhosts());
+        gameView.setTitle("Pacman Game - seed " + seed);
+        gameView.updateScore(session.getScore());
+        gameView.updateLives(session.getLives());
+        gameView.updateTime(session.getTime());
+        session.setListener(new SessionListener(gameView));
         gameView.addKeyListener(new KeyAdapter() {
             @Override
             public void keyPressed(KeyEvent e) {
@@ -98,66 +79,36 @@ public class GameController {
         gameView.setVisible(true);
     }
 
-    private void createGameEntities() {
-        int[] pacmanPos = boardModel.findPacmanPosition();
-        pacman = (pacmanPos != null) ? new Pacman(pacmanPos[1], pacmanPos[0], 150) : new Pacman(1, 1, 150);
-        ghosts.clear();
-        int boardSize = boardModel.getSize();
-        int center = boardSize / 2;
-        ghosts.clear();
-        for (GhostConfig config : GameConstants.DEFAULT_GHOSTS) {
-            int gx = center + config.offsetX;
-            int gy = center + config.offsetY;
-            Ghost ghost = new Ghost(gx, gy, config.speed, config.type);
-            ghosts.add(ghost);
-            boardModel.setTile(gy, gx, BoardModel.GHOST);
-        }
-        for (Ghost ghost : ghosts) {
-            boardModel.setValueAt(BoardModel.GHOST, ghost.getY(), ghost.getX());
-        }
-    }
-
     private void startGameThreads() {
         stopGameThreads();
-        pacmanAnimationThread = new PacmanAnimationThread(pacman, gameView.getBoardView(), 150);
-        pacmanMovementThread = new PacmanMovementThread(pacman, boardModel, gameView.getBoardView(), 200, this);
-        gameTimerThread = new GameTimerThread(this);
-        powerUpGeneratorThread = new PowerUpGeneratorThread(boardModel, ghosts, 5000, 25);
-        pacmanAnimationThread.start();
-        pacmanMovementThread.start();
-        gameTimerThread.start();
-        powerUpGeneratorThread.start();
-        ghostThreads.clear();
-        ghostAnimationThreads.clear();
-        for (Ghost ghost : ghosts) {
-            GhostThread ghostThread = new GhostThread(ghost, boardModel, gameView.getBoardView(), 350, this);
-            GhostAnimationThread animationThread = new GhostAnimationThread(ghost, gameView.getBoardView(), 300);
-            ghostThreads.add(ghostThread);
-            ghostAnimationThreads.add(animationThread);
-            ghostThread.start();
-            animationThread.start();
-        }
-    }
-
-    private void clearGhostTiles() {
-        for (int r = 0; r < boardModel.getSize(); r++) {
-            for (int c = 0; c < boardModel.getSize(); c++) {
-                if (boardModel.getTile(r, c) == BoardModel.GHOST) {
-                    boardModel.setTile(r, c, BoardModel.DOT);
-                }
-            }
+        boardCommands = new BoardCommandQueue();
+        BoardView boardView = gameView.getBoardView();
+        Pacman pacman = session.getPacman();
+        animationClock = new AnimationClock(150,
+                () -> boardView.updatePacmanRenderState(pacman.getDirection(), pacman.getAnimationFrame()));
+        animationClock.register(pacman, 150);
+        session.getGhosts().forEach(ghost -> animationClock.register(ghost, 300));
+        animationClock.start();
+        if (GameConstants.EXECUTION_MODE == ExecutionMode.TICK_ENGINE) {
+            tickScheduler = new TickScheduler(session.getBoardModel(), boardCommands, GameConstants.TICK_MILLIS);
+            session.schedule(tickScheduler);
+            tickScheduler.start();
+        } else {
+            boardWriterThread = new BoardWriterThread(session.getBoardModel(), boardCommands);
+            boardWriterThread.start();
+            session.schedule((steppable, initialDelay) -> stepperThreads.add(new StepperThread(steppable, boardCommands, initialDelay)));
+            for (StepperThread stepperThread : stepperThreads) stepperThread.start();
         }
     }
 
     private void stopGameThreads() {
-        if (pacmanAnimationThread != null) pacmanAnimationThread.stopThread();
-        if (pacmanMovementThread != null) pacmanMovementThread.stopThread();
-        if (gameTimerThread != null) gameTimerThread.stopThread();
-        if (powerUpGeneratorThread != null) powerUpGeneratorThread.stopThread();
-        for (GhostThread ghostThread : ghostThreads) ghostThread.stopThread();
-        ghostThreads.clear();
-        for (GhostAnimationThread animationThread : ghostAnimationThreads) animationThread.stopThread();
-        ghostAnimationThreads.clear();
+        if (tickScheduler != null) tickScheduler.stop();
+        tickScheduler = null;
+        if (boardWriterThread != null) boardWriterThread.stopThread();
+        boardWriterThread = null;
+        if (animationClock != null) animationClock.stop();
+        for (StepperThread stepperThread : stepperThreads) stepperThread.stopThread();
+        stepperThreads.clear();
     }
 
     private void handleKeyPress(KeyEvent e) {
@@ -166,52 +117,18 @@ public class GameController {
             return;
         }
         switch (e.getKeyCode()) {
-            case KeyEvent.VK_UP, KeyEvent.VK_W -> pacmanMovementThread.setDirection(PacmanMovementThread.UP);
-            case KeyEvent.VK_DOWN, KeyEvent.VK_S -> pacmanMovementThread.setDirection(PacmanMovementThread.DOWN);
-            case KeyEvent.VK_LEFT, KeyEvent.VK_A -> pacmanMovementThread.setDirection(PacmanMovementThread.LEFT);
-            case KeyEvent.VK_RIGHT, KeyEvent.VK_D -> pacmanMovementThread.setDirection(PacmanMovementThread.RIGHT);
+            case KeyEvent.VK_UP, KeyEvent.VK_W -> session.setDirection(Direction.UP);
+            case KeyEvent.VK_DOWN, KeyEvent.VK_S -> session.setDirection(Direction.DOWN);
+            case KeyEvent.VK_LEFT, KeyEvent.VK_A -> session.setDirection(Direction.LEFT);
+            case KeyEvent.VK_RIGHT, KeyEvent.VK_D -> session.setDirection(Direction.RIGHT);
             case KeyEvent.VK_P -> togglePause();
+            case KeyEvent.VK_R -> restartLevel();
         }
     }
 
-    public void checkGhostCollision(int newRow, int newCol) {
-        for (Ghost ghost : ghosts) {
-            if (ghost.getX() == newCol && ghost.getY() == newRow) {
-                updateLives(-1);
-                respawnAfterDeath();
-                break;
-            }
-        }
-    }
-
-    public void checkVictory() {
-        for (int r = 0; r < boardModel.getSize(); r++) {
-            for (int c = 0; c < boardModel.getSize(); c++) {
-                if (boardModel.getValueAt(r, c).equals(BoardModel.DOT)) return;
-            }
-        }
-        handleVictory();
-    }
-
-    public void respawnAfterDeath() {
-        for (int r = 0; r < boardModel.getSize(); r++) {
-            for (int c = 0; c < boardModel.getSize(); c++) {
-                if (boardModel.getTile(r, c) == BoardModel.PACMAN) {
-                    boardModel.setTile(r, c, BoardModel.EMPTY);
-                }
-            }
-        }
-        pacman.setX(1);
-        pacman.setY(1);
-        if (boardModel.getTile(1, 1) == BoardModel.GHOST) {
-            boardModel.setTile(1, 1, BoardModel.DOT);
-        }
-        boardModel.setTile(1, 1, BoardModel.PACMAN);
-    }
-
     private void togglePause() {
-        if (pacmanAnimationThread != null && pacmanMovementThread != null) {
-            if (pacmanAnimationThread.isPaused()) {
+        if (animationClock != null) {
+            if (animationClock.isPaused()) {
                 resumeAllThreads();
             } else {
                 pauseAllThreads();
@@ -220,19 +137,23 @@ public class GameController {
     }
 
     private void pauseAllThreads() {
-        if (pacmanAnimationThread != null) pacmanAnimationThread.pauseThread();
-        if (pacmanMovementThread != null) pacmanMovementThread.pauseThread();
-        if (gameTimerThread != null) gameTimerThread.pauseThread();
-        if (powerUpGeneratorThread != null) powerUpGeneratorThread.pauseThread();
-        for (GhostThread ghostThread : ghostThreads) ghostThread.pauseThread();
+        if (tickScheduler != null) tickScheduler.pause();
+        if (animationClock != null) animationClock.pause();
+        for (StepperThread stepperThread : stepperThreads) stepperThread.pauseThread();
     }
 
     private void resumeAllThreads() {
-        if (pacmanAnimationThread != null) pacmanAnimationThread.resumeThread();
-        if (pacmanMovementThread != null) pacmanMovementThread.resumeThread();
-        if (gameTimerThread != null) gameTimerThread.resumeThread();
-        if (powerUpGeneratorThread != null) powerUpGeneratorThread.resumeThread();
-        for (GhostThread ghostThread : ghostThreads) ghostThread.resumeThread();
+        if (tickScheduler != null) tickScheduler.resume();
+        if (animationClock != null) animationClock.resume();
+        for (StepperThread stepperThread : stepperThreads) stepperThread.resumeThread();
+    }
+
+    private void restartLevel() {
+        int boardSize = session.getBoardModel().getSize();
+        long seed = session.getSeed();
+        stopGameThreads();
+        gameView.dispose();
+        startGame(boardSize, seed);
     }
 
     private void returnToMainMenu() {
@@ -250,23 +171,7 @@ public class GameController {
         System.exit(0);
     }
 
-    public void updateScore(int points) {
-        score += points;
-        if (gameView != null) gameView.updateScore(score);
-    }
-
-    public void updateLives(int change) {
-        lives += change;
-        if (gameView != null) gameView.updateLives(lives);
-        if (lives <= 0) handleGameOver();
-    }
-
-    public void updateTime(int seconds) {
-        time = seconds;
-        if (gameView != null) gameView.updateTime(time);
-    }
-
-    private void handleGameOver() {
+    private void handleGameOver(int score) {
         stopGameThreads();
         JOptionPane.showMessageDialog(gameView, "Game Over!\nYour score: " + score, "Game Over", JOptionPane.INFORMATION_MESSAGE);
         String name = JOptionPane.showInputDialog(gameView, "Enter your name for the high score:", "High Score", JOptionPane.QUESTION_MESSAGE);
@@ -274,7 +179,7 @@ public class GameController {
         returnToMainMenu();
     }
 
-    private void handleVictory() {
+    private void handleVictory(int score) {
         stopGameThreads();
         JOptionPane.showMessageDialog(gameView, "You Win!\nYour score: " + score, "Victory", JOptionPane.INFORMATION_MESSAGE);
         String name = JOptionPane.showInputDialog(gameView, "Enter your name for the high score:", "High Score", JOptionPane.QUESTION_MESSAGE);
@@ -282,51 +187,40 @@ public class GameController {
         returnToMainMenu();
     }
 
-    public boolean isPacmanSpeedBoost() {
-        return pacmanSpeedBoost;
+    public void saveHighScore(String name, int score) {
+        highScoreManager.addScore(name, score);
     }
 
-    public void setPacmanSpeedBoost(boolean value) {
-        this.pacmanSpeedBoost = value;
-    }
+    private class SessionListener implements GameListener {
+        private final GameView view;
 
-    public void onBoostCollected(int boostType) {
-        BoostEffect effect = BoostFactory.getBoostForType(boostType);
-        if (effect == null) return;
-        if (effect instanceof HealthBoost) {
-            effect.apply(this);
-        } else {
-            effect.applyWithDuration(this, 5000);
+        private SessionListener(GameView view) {
+            this.view = view;
         }
-    }
 
-    public void setInvincible(boolean value) {
-        this.invincible = value;
-    }
+        @Override
+        public void scoreChanged(int score) {
+            view.updateScore(score);
+        }
 
-    public void freezeGhosts(boolean value) {
-        this.ghostsFrozen = value;
-        for (GhostThread thread : ghostThreads) {
-            if (value) {
-                thread.pauseThread();
-            } else {
-                thread.resumeThread();
-            }
+        @Override
+        public void livesChanged(int lives) {
+            view.updateLives(lives);
         }
-    }
 
-    public void setGhostsConfused(boolean value) {
-        this.ghostsConfused = value;
-        for (Ghost ghost : ghosts) {
-            ghost.setConfused(value);
+        @Override
+        public void timeChanged(int seconds) {
+            view.updateTime(seconds);
         }
-    }
 
-    public boolean isInvincible() {
-        return invincible;
-    }
+        @Override
+        public void gameOver(int score) {
+            SwingUtilities.invokeLater(() -> handleGameOver(score));
+        }
 
-    public void saveHighScore(String name, int score) {
-        highScoreManager.addScore(name, score);
+        @Override
+        public void victory(int score) {
+            SwingUtilities.invokeLater(() -> handleVictory(score));
+        }
     }
 }
@@ -1,5 +1,6 @@
 package controller;
 
+import model.config.GameConstants;
 import view.MainMenuView;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
@@ -36,7 +37,7 @@ public class MenuController {
 
     private void showBoardSizeDialog() {
         int boardSize = menuView.showBoardSizeDialog();
-        if (boardSize >= 10 && boardSize <= 100) {
+        if (boardSize >= GameConstants.MIN_BOARD_SIZE && boardSize <= GameConstants.MAX_BOARD_SIZE) {
             gameController.startNewGame(boardSize);
         }
     }
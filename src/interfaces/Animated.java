@@ -0,0 +1,5 @@
+package interfaces;
+
+public interface Animated {
+    void updateAnimation();
+}
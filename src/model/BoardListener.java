@@ -0,0 +1,12 @@
+package model;
+
+public interface BoardListener {
+    // cells holds count board indices; the array is reused, so copy what must outlive the call.
+    void cellsChanged(int[] cells, int count);
+
+    void boardChanged();
+
+    // First change since the last publishChanges, on the writing thread; a cue to schedule a frame.
+    default void changesPending() {
+    }
+}
@@ -1,15 +1,25 @@
 package model;
 
-import controller.GameController;
+import model.entity.Direction;
 
-import javax.swing.table.AbstractTableModel;
-import java.awt.*;
-import java.util.HashMap;
-import java.util.Map;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class BoardModel {
+    private static final VarHandle DIRTY_WORD = MethodHandles.arrayElementVarHandle(long[].class);
 
-public class BoardModel extends AbstractTableModel {
     private final int size;
-    private final Integer[][] board;
+    // Terrain and items; entities live only in the occupancy layer.
+    private final byte[] tiles;
+    private final int[] occupants;
+    // Bit d set when the neighbour in Direction d is inside the board and not a wall.
+    private final byte[] exits;
+    private final int[] neighbourOffsets;
 
     public static final int EMPTY = 0;
     public static final int WALL = 1;
@@ -22,67 +32,291 @@ public class BoardModel extends AbstractTableModel {
     public static final int BOOST_ICE = 8;
     public static final int BOOST_POISON = 9;
     public static final int BOOST_SHIELD = 10;
+    public static final int TILE_TYPES = 11;
+
+    public static final int NO_ENTITY = 0;
+    public static final int PACMAN_ENTITY = 1;
+    public static final int FIRST_GHOST_ENTITY = 2;
 
-    private GameController controller;
-    private final Map<Point, Integer> ghostUnderTiles = new HashMap<>();
+    private final TileIndex tileIndex;
+    private int pacmanIndex = -1;
+    private final List<BoardListener> listeners = new CopyOnWriteArrayList<>();
+    // One bit per cell changed since the last publishChanges; set by the writer, drained by the view.
+    private final long[] dirty;
+    private int[] changed = new int[64];
+    private volatile boolean changesPending;
 
     public BoardModel(int size) {
         this.size = size;
-        this.board = new Integer[size][size];
-        initializeEmptyBoard();
+        this.tiles = new byte[size * size];
+        this.occupants = new int[size * size];
+        this.exits = new byte[size * size];
+        this.dirty = new long[(size * size + 63) >>> 6];
+        this.neighbourOffsets = new int[]{1, size, -1, -size};
+        this.tileIndex = new TileIndex(TILE_TYPES, size * size,
+                BIG_DOT, BOOST_HEALTH, BOOST_THUNDER, BOOST_ICE, BOOST_POISON, BOOST_SHIELD);
+        for (int i = 0; i < tiles.length; i++) {
+            tileIndex.add(EMPTY, i);
+        }
     }
 
-    private void initializeEmptyBoard() {
+    public void loadMaze(int[][] maze) {
+        Arrays.fill(occupants, NO_ENTITY);
+        pacmanIndex = -1;
         for (int r = 0; r < size; r++) {
+            int base = r * size;
             for (int c = 0; c < size; c++) {
-                board[r][c] = EMPTY;
+                loadTile(base + c, maze[r][c]);
             }
         }
+        finishLoad();
     }
 
-    @Override
-    public int getRowCount() {
-        return size;
+    public void loadMaze(byte[] maze) {
+        if (maze.length != tiles.length) {
+            throw new IllegalArgumentException("Maze has " + maze.length + " cells, board needs " + tiles.length);
+        }
+        Arrays.fill(occupants, NO_ENTITY);
+        pacmanIndex = -1;
+        for (int i = 0; i < maze.length; i++) {
+            loadTile(i, maze[i]);
+        }
+        finishLoad();
     }
 
-    @Override
-    public int getColumnCount() {
-        return size;
+    // Tiles packed two per byte, high nibble first, as stored by MazeFile.
+    // The payload is checked in full before any tile is written, so a bad file leaves the board as it was.
+    public void loadPacked(ByteBuffer packed) throws IOException {
+        int base = packed.position();
+        if (packed.remaining() < (tiles.length + 1) / 2) {
+            throw new IOException("Packed maze too short for a " + size + "x" + size + " board");
+        }
+        int pairs = tiles.length >> 1;
+        for (int i = 0; i < pairs; i++) {
+            int b = packed.get(base + i);
+            if (!isPackedTile((b >>> 4) & 0xF) || !isPackedTile(b & 0xF)) throw new IOException("Corrupt maze file");
+        }
+        if ((tiles.length & 1) != 0 && !isPackedTile((packed.get(base + pairs) >>> 4) & 0xF)) {
+            throw new IOException("Corrupt maze file");
+        }
+        Arrays.fill(occupants, NO_ENTITY);
+        pacmanIndex = -1;
+        for (int i = 0; i < pairs; i++) {
+            int b = packed.get(base + i);
+            loadTile(2 * i, (b >>> 4) & 0xF);
+            loadTile(2 * i + 1, b & 0xF);
+        }
+        if ((tiles.length & 1) != 0) {
+            loadTile(tiles.length - 1, (packed.get(base + pairs) >>> 4) & 0xF);
+        }
+        finishLoad();
     }
 
-    @Override
-    public Object getValueAt(int row, int col) {
-        return board[row][col];
+    // A nibble can hold codes past the last tile type; those only come from a damaged or foreign file.
+    private static boolean isPackedTile(int nibble) {
+        return nibble < TILE_TYPES;
     }
 
-    @Override
-    public void setValueAt(Object value, int row, int col) {
-        if (value instanceof Integer) {
-            board[row][col] = (Integer) value;
-            fireTableCellUpdated(row, col);
+    private void loadTile(int index, int tile) {
+        if (tile == PACMAN) {
+            pacmanIndex = index;
+            occupants[index] = PACMAN_ENTITY;
+            tile = EMPTY;
+        } else if (tile == GHOST) {
+            tile = DOT;
+        }
+        tiles[index] = (byte) tile;
+    }
+
+    private void finishLoad() {
+        tileIndex.clear();
+        for (int i = 0; i < tiles.length; i++) {
+            tileIndex.add(tiles[i], i);
+        }
+        for (int i = 0; i < tiles.length; i++) {
+            exits[i] = (byte) computeExits(i);
         }
+        for (BoardListener listener : listeners) {
+            listener.boardChanged();
+        }
+    }
+
+    public void addBoardListener(BoardListener listener) {
+        listeners.add(listener);
     }
 
-    @Override
-    public boolean isCellEditable(int rowIndex, int columnIndex) {
-        return false;
+    public void removeBoardListener(BoardListener listener) {
+        listeners.remove(listener);
     }
 
     public void setTile(int row, int col, int value) {
+        checkTileValue(value);
         if (isValid(row, col)) {
-            board[row][col] = value;
-            fireTableCellUpdated(row, col);
+            writeTile(index(row, col), value);
         }
     }
 
     public int getTile(int row, int col) {
         if (!isValid(row, col)) return WALL;
-        Integer val = board[row][col];
-        return (val == null) ? EMPTY : val;
+        int i = index(row, col);
+        int occupant = occupants[i];
+        if (occupant >= FIRST_GHOST_ENTITY) return GHOST;
+        if (occupant == PACMAN_ENTITY) return PACMAN;
+        return tiles[i];
+    }
+
+    public int index(int row, int col) {
+        return row * size + col;
+    }
+
+    public int getTileFast(int index) {
+        return tiles[index];
+    }
+
+    public void setTileFast(int index, int value) {
+        checkTileValue(value);
+        writeTile(index, value);
+    }
+
+    private static void checkTileValue(int value) {
+        if (value == PACMAN || value == GHOST) {
+            throw new IllegalArgumentException("Entities are placed with placePacman/placeGhost, not setTile");
+        }
+        if (value < 0 || value >= TILE_TYPES) {
+            throw new IllegalArgumentException("Unknown tile type " + value);
+        }
+    }
+
+    public int getOccupantFast(int index) {
+        return occupants[index];
+    }
+
+    public int getOccupant(int row, int col) {
+        return isValid(row, col) ? occupants[index(row, col)] : NO_ENTITY;
+    }
+
+    public boolean isGhostAt(int row, int col) {
+        return isValid(row, col) && occupants[index(row, col)] >= FIRST_GHOST_ENTITY;
+    }
+
+    private void writeTile(int index, int value) {
+        int previous = tiles[index];
+        if (previous == value) return;
+        tileIndex.remove(previous, index);
+        tiles[index] = (byte) value;
+        tileIndex.add(value, index);
+        markDirty(index);
+        if ((previous == WALL) != (value == WALL)) updateNeighbourExits(index, value != WALL);
+    }
+
+    private int computeExits(int index) {
+        int row = index / size;
+        int col = index - row * size;
+        int mask = 0;
+        for (int dir = 0; dir < Direction.COUNT; dir++) {
+            if (!isWall(row + Direction.rowDelta(dir), col + Direction.colDelta(dir))) mask |= 1 << dir;
+        }
+        return mask;
+    }
+
+    // A cell turning into or out of a wall flips one bit in each neighbour: the one pointing back at it.
+    private void updateNeighbourExits(int index, boolean open) {
+        int row = index / size;
+        int col = index - row * size;
+        for (int dir = 0; dir < Direction.COUNT; dir++) {
+            int r = row + Direction.rowDelta(dir);
+            int c = col + Direction.colDelta(dir);
+            if (!isValid(r, c)) continue;
+            int back = 1 << Direction.opposite(dir);
+            int neighbour = index(r, c);
+            exits[neighbour] = (byte) (open ? exits[neighbour] | back : exits[neighbour] & ~back);
+        }
+    }
+
+    public int getExits(int row, int col) {
+        return isValid(row, col) ? exits[index(row, col)] : 0;
+    }
+
+    public int getExitsFast(int index) {
+        return exits[index];
+    }
+
+    // Only meaningful when canMove(index, direction) holds.
+    public int neighbourFast(int index, int direction) {
+        return index + neighbourOffsets[direction];
+    }
+
+    public boolean canMove(int index, int direction) {
+        return (exits[index] & (1 << direction)) != 0;
+    }
+
+    private void markDirty(int index) {
+        if (listeners.isEmpty()) return;
+        int word = index >>> 6;
+        long bit = 1L << index;
+        if ((dirty[word] & bit) == 0) DIRTY_WORD.getAndBitwiseOr(dirty, word, bit);
+        if (!changesPending) {
+            changesPending = true;
+            for (BoardListener listener : listeners) {
+                listener.changesPending();
+            }
+        }
+    }
+
+    /**
+     * Hands every cell changed since the previous call to the listeners as one
+     * batch and returns how many there were. Meant to be called once per frame
+     * by a single consumer; the cell array is reused between calls.
+     */
+    public int publishChanges() {
+        // Cleared before the scan: a change landing after its word was read signals again.
+        changesPending = false;
+        int count = 0;
+        for (int word = 0; word < dirty.length; word++) {
+            if ((long) DIRTY_WORD.getVolatile(dirty, word) == 0) continue;
+            long bits = (long) DIRTY_WORD.getAndSet(dirty, word, 0L);
+            while (bits != 0) {
+                if (count == changed.length) changed = Arrays.copyOf(changed, count * 2);
+                changed[count++] = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        if (count > 0) {
+            for (BoardListener listener : listeners) {
+                listener.cellsChanged(changed, count);
+            }
+        }
+        return count;
+    }
+
+    public int getTileCount(int tileType) {
+        return tileIndex.count(tileType);
+    }
+
+    public int[] getTilePositions(int tileType) {
+        if (!tileIndex.isTracked(tileType)) {
+            throw new IllegalArgumentException("Tile type " + tileType + " is not indexed");
+        }
+        return tileIndex.positions(tileType);
+    }
+
+    public int[] getBoostPositions() {
+        int total = 0;
+        for (int type = BOOST_HEALTH; type <= BOOST_SHIELD; type++) {
+            total += tileIndex.count(type);
+        }
+        int[] positions = new int[total];
+        int offset = 0;
+        for (int type = BOOST_HEALTH; type <= BOOST_SHIELD; type++) {
+            int[] typePositions = tileIndex.positions(type);
+            System.arraycopy(typePositions, 0, positions, offset, typePositions.length);
+            offset += typePositions.length;
+        }
+        return positions;
     }
 
     public boolean isWall(int row, int col) {
-        return getTile(row, col) == WALL;
+        return !isValid(row, col) || tiles[index(row, col)] == WALL;
     }
 
     public boolean isValid(int row, int col) {
@@ -93,51 +327,62 @@ public class BoardModel extends AbstractTableModel {
         return size;
     }
 
-    public void setController(GameController controller) {
-        this.controller = controller;
-    }
-
     public int[] findTile(int tileType) {
-        for (int r = 0; r < size; r++)
-            for (int c = 0; c < size; c++)
-                if (board[r][c] == tileType)
-                    return new int[]{r, c};
+        if (tileType == PACMAN) return findPacmanPosition();
+        if (tileIndex.count(tileType) == 0) return null;
+        if (tileIndex.isTracked(tileType)) {
+            int i = tileIndex.first(tileType);
+            return new int[]{i / size, i % size};
+        }
+        for (int i = 0; i < tiles.length; i++)
+            if (tiles[i] == tileType)
+                return new int[]{i / size, i % size};
         return null;
     }
 
+    public int getPacmanIndex() {
+        return pacmanIndex;
+    }
+
     public int[] findPacmanPosition() {
-        for (int r = 0; r < size; r++) {
-            for (int c = 0; c < size; c++) {
-                if (board[r][c] == PACMAN)
-                    return new int[]{r, c};
-            }
+        return (pacmanIndex >= 0) ? new int[]{pacmanIndex / size, pacmanIndex % size} : null;
+    }
+
+    public void placePacman(int row, int col) {
+        if (pacmanIndex >= 0) {
+            if (occupants[pacmanIndex] == PACMAN_ENTITY) occupants[pacmanIndex] = NO_ENTITY;
+            markDirty(pacmanIndex);
         }
-        return null;
+        pacmanIndex = index(row, col);
+        if (occupants[pacmanIndex] == NO_ENTITY) occupants[pacmanIndex] = PACMAN_ENTITY;
+        markDirty(pacmanIndex);
+    }
+
+    public void placeGhost(int ghostId, int row, int col) {
+        int index = index(row, col);
+        occupants[index] = ghostId;
+        markDirty(index);
     }
 
     public int movePacman(int fromRow, int fromCol, int toRow, int toCol) {
-        if (!isValid(toRow, toCol) || isWall(toRow, toCol)) return -1;
-        int eaten = board[toRow][toCol];
-        setTile(fromRow, fromCol, EMPTY);
-        setTile(toRow, toCol, PACMAN);
+        if (isWall(toRow, toCol)) return -1;
+        int to = index(toRow, toCol);
+        int eaten = tiles[to];
+        if (eaten != EMPTY) writeTile(to, EMPTY);
+        placePacman(toRow, toCol);
         return eaten;
     }
 
     public boolean moveGhost(int fromRow, int fromCol, int toRow, int toCol) {
-        if (!isValid(toRow, toCol) || isWall(toRow, toCol)) return false;
-        Point from = new Point(fromCol, fromRow);
-        Point to = new Point(toCol, toRow);
-        boolean hitPacman = getTile(toRow, toCol) == PACMAN;
-        if (!ghostUnderTiles.containsKey(from)) {
-            ghostUnderTiles.put(from, DOT);
-        }
-        board[fromRow][fromCol] = ghostUnderTiles.remove(from);
-        if (board[fromRow][fromCol] == null) board[fromRow][fromCol] = DOT;
-        fireTableCellUpdated(fromRow, fromCol);
-        Integer under = board[toRow][toCol];
-        ghostUnderTiles.put(to, (under != null) ? under : DOT);
-        board[toRow][toCol] = GHOST;
-        fireTableCellUpdated(toRow, toCol);
+        if (isWall(toRow, toCol)) return false;
+        int from = index(fromRow, fromCol);
+        int to = index(toRow, toCol);
+        int ghostId = occupants[from];
+        occupants[from] = (from == pacmanIndex) ? PACMAN_ENTITY : NO_ENTITY;
+        markDirty(from);
+        boolean hitPacman = to == pacmanIndex;
+        occupants[to] = ghostId;
+        markDirty(to);
         return hitPacman;
     }
 }
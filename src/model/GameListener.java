@@ -0,0 +1,18 @@
+package model;
+
+public interface GameListener {
+    default void scoreChanged(int score) {
+    }
+
+    default void livesChanged(int lives) {
+    }
+
+    default void timeChanged(int seconds) {
+    }
+
+    default void gameOver(int score) {
+    }
+
+    default void victory(int score) {
+    }
+}
@@ -0,0 +1,263 @@
+package model;
+
+import model.boost.BoostEffect;
+import model.boost.BoostFactory;
+import model.boost.EffectScheduler;
+import model.command.BoardCommandQueue;
+import model.config.GameConstants;
+import model.config.SessionSettings;
+import model.engine.DistanceField;
+import model.engine.GhostSystem;
+import model.engine.PacmanStepper;
+import model.engine.PowerUpGenerator;
+import model.engine.StepScheduler;
+import model.engine.TickScheduler;
+import model.entity.Ghost;
+import model.entity.GhostConfig;
+import model.entity.GhostType;
+import model.entity.Pacman;
+import model.utils.MazeCache;
+import model.utils.MazeGenerator;
+
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One game's rules and state, independent of any UI. The same session runs
+ * under the windowed controller or headless via tick().
+ */
+public class GameSession {
+    public static final int STARTING_LIVES = 3;
+    private static final int PACMAN_SPEED = 200;
+    private static final int CLOCK_INTERVAL = 1000;
+
+    private final BoardModel boardModel;
+    private final long seed;
+    private final Pacman pacman;
+    private final PacmanStepper pacmanStepper;
+    private final GhostSystem ghostSystem;
+    private final PowerUpGenerator powerUpGenerator;
+    private final EffectScheduler effectScheduler;
+    private final DistanceField pacmanDistances;
+    private GameListener listener = new GameListener() {
+    };
+    private volatile int score;
+    private volatile int lives = STARTING_LIVES;
+    private volatile int time;
+    private volatile boolean pacmanSpeedBoost;
+    private volatile boolean invincible;
+    private volatile boolean ghostsFrozen;
+    private volatile boolean over;
+    private volatile boolean won;
+    private TickScheduler headlessScheduler;
+
+    public GameSession(BoardModel boardModel, SessionSettings settings) {
+        this(boardModel, settings, ThreadLocalRandom.current().nextLong());
+    }
+
+    public GameSession(BoardModel boardModel, SessionSettings settings, long seed) {
+        this.boardModel = boardModel;
+        this.seed = seed;
+        SplittableRandom seeds = new SplittableRandom(seed);
+        int[] pacmanPos = boardModel.findPacmanPosition();
+        if (pacmanPos == null) {
+            pacmanPos = new int[]{1, 1};
+            boardModel.placePacman(1, 1);
+        }
+        this.pacman = new Pacman(pacmanPos[1], pacmanPos[0], 150);
+        int center = boardModel.getSize() / 2;
+        this.ghostSystem = new GhostSystem(this, new SplittableRandom(seeds.nextLong()));
+        for (GhostConfig config : settings.ghosts) {
+            ghostSystem.spawn(GhostType.fromName(config.type), center + config.offsetY, center + config.offsetX, config.speed);
+        }
+        this.pacmanStepper = new PacmanStepper(this, pacman, PACMAN_SPEED);
+        this.powerUpGenerator = new PowerUpGenerator(this, settings.powerUpInterval, settings.powerUpChance,
+                new Random(seeds.nextLong()));
+        this.pacmanDistances = new DistanceField(boardModel);
+        this.effectScheduler = new EffectScheduler(this, GameConstants.EFFECT_TICK_MILLIS, GameConstants.EFFECT_WHEEL_SIZE);
+    }
+
+    public static GameSession generate(int boardSize) {
+        return generate(boardSize, SessionSettings.DEFAULT, ThreadLocalRandom.current().nextLong());
+    }
+
+    public static GameSession generate(int boardSize, SessionSettings settings, long seed) {
+        BoardModel boardModel = new BoardModel(boardSize);
+        boardModel.loadMaze(new MazeGenerator(boardSize, boardSize).generate(seed));
+        return new GameSession(boardModel, settings, seed);
+    }
+
+    // For seeds likely to be played again (restarting a level); one-off games should use generate.
+    public static GameSession generateCached(int boardSize, SessionSettings settings, long seed) {
+        BoardModel boardModel = new BoardModel(boardSize);
+        boardModel.loadMaze(MazeCache.shared().get(boardSize, boardSize, seed));
+        return new GameSession(boardModel, settings, seed);
+    }
+
+    public void schedule(StepScheduler scheduler) {
+        scheduler.schedule(pacmanStepper, 0);
+        scheduler.schedule(ghostSystem, 0);
+        scheduler.schedule(powerUpGenerator, powerUpGenerator.getGenerationInterval());
+        scheduler.schedule(this::advanceClock, CLOCK_INTERVAL);
+        scheduler.schedule(effectScheduler, GameConstants.EFFECT_TICK_MILLIS);
+    }
+
+    public void tick() {
+        if (headlessScheduler == null) {
+            headlessScheduler = new TickScheduler(boardModel, new BoardCommandQueue(), GameConstants.TICK_MILLIS);
+            schedule(headlessScheduler);
+        }
+        headlessScheduler.runTick();
+    }
+
+    public long run(long maxTicks) {
+        long ticks = 0;
+        while (!over && ticks < maxTicks) {
+            tick();
+            ticks++;
+        }
+        return ticks;
+    }
+
+    private long advanceClock() {
+        if (!over) updateTime(time + 1);
+        return CLOCK_INTERVAL;
+    }
+
+    public void setListener(GameListener listener) {
+        this.listener = listener;
+    }
+
+    public void setDirection(int direction) {
+        pacmanStepper.setDirection(direction);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public BoardModel getBoardModel() {
+        return boardModel;
+    }
+
+    public Pacman getPacman() {
+        return pacman;
+    }
+
+    // Recomputed at most once per Pacman move, however many ghosts ask.
+    public DistanceField getPacmanDistances() {
+        pacmanDistances.update(boardModel.getPacmanIndex());
+        return pacmanDistances;
+    }
+
+    public GhostSystem getGhostSystem() {
+        return ghostSystem;
+    }
+
+    public List<Ghost> getGhosts() {
+        return ghostSystem.views();
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    public int getTime() {
+        return time;
+    }
+
+    public boolean isOver() {
+        return over;
+    }
+
+    public boolean isWon() {
+        return won;
+    }
+
+    public void updateScore(int points) {
+        score += points;
+        listener.scoreChanged(score);
+    }
+
+    public void updateLives(int change) {
+        lives += change;
+        listener.livesChanged(lives);
+        if (lives <= 0 && !over) {
+            over = true;
+            listener.gameOver(score);
+        }
+    }
+
+    public void updateTime(int seconds) {
+        time = seconds;
+        listener.timeChanged(time);
+    }
+
+    public void checkGhostCollision(int newRow, int newCol) {
+        if (boardModel.isGhostAt(newRow, newCol)) {
+            updateLives(-1);
+            respawnAfterDeath();
+        }
+    }
+
+    public void onPacmanCaught() {
+        if (!invincible) {
+            updateLives(-1);
+            respawnAfterDeath();
+        }
+    }
+
+    public void checkVictory() {
+        if (boardModel.getTileCount(BoardModel.DOT) == 0 && !over) {
+            over = true;
+            won = true;
+            listener.victory(score);
+        }
+    }
+
+    public void respawnAfterDeath() {
+        pacman.setX(1);
+        pacman.setY(1);
+        boardModel.placePacman(1, 1);
+    }
+
+    public void onBoostCollected(int boostType) {
+        BoostEffect effect = BoostFactory.getBoostForType(boostType);
+        if (effect == null) return;
+        effectScheduler.activate(effect, GameConstants.BOOST_DURATION);
+    }
+
+    public boolean isPacmanSpeedBoost() {
+        return pacmanSpeedBoost;
+    }
+
+    public void setPacmanSpeedBoost(boolean value) {
+        this.pacmanSpeedBoost = value;
+    }
+
+    public void setInvincible(boolean value) {
+        this.invincible = value;
+    }
+
+    public boolean isInvincible() {
+        return invincible;
+    }
+
+    public void freezeGhosts(boolean value) {
+        this.ghostsFrozen = value;
+    }
+
+    public boolean areGhostsFrozen() {
+        return ghostsFrozen;
+    }
+
+    public void setGhostsConfused(boolean value) {
+        ghostSystem.setAllConfused(value);
+    }
+}
@@ -0,0 +1,65 @@
+package model;
+
+import java.util.Arrays;
+
+class TileIndex {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final int[] counts;
+    private final int[][] members;
+    private final int[] slots;
+
+    TileIndex(int tileTypes, int cells, int... trackedTypes) {
+        this.counts = new int[tileTypes];
+        this.members = new int[tileTypes][];
+        this.slots = new int[cells];
+        for (int type : trackedTypes) {
+            members[type] = new int[INITIAL_CAPACITY];
+        }
+    }
+
+    void clear() {
+        Arrays.fill(counts, 0);
+    }
+
+    void add(int type, int index) {
+        int[] list = members[type];
+        if (list != null) {
+            int count = counts[type];
+            if (count == list.length) {
+                list = Arrays.copyOf(list, count * 2);
+                members[type] = list;
+            }
+            list[count] = index;
+            slots[index] = count;
+        }
+        counts[type]++;
+    }
+
+    void remove(int type, int index) {
+        int[] list = members[type];
+        int last = --counts[type];
+        if (list != null) {
+            int slot = slots[index];
+            int moved = list[last];
+            list[slot] = moved;
+            slots[moved] = slot;
+        }
+    }
+
+    int count(int type) {
+        return counts[type];
+    }
+
+    boolean isTracked(int type) {
+        return members[type] != null;
+    }
+
+    int first(int type) {
+        return counts[type] > 0 ? members[type][0] : -1;
+    }
+
+    int[] positions(int type) {
+        return Arrays.copyOf(members[type], counts[type]);
+    }
+}
@@ -1,22 +1,19 @@
 package model.boost;
 
-import controller.GameController;
+import model.GameSession;
 
 public abstract class BoostEffect {
-    public abstract void apply(GameController controller);
+    public abstract void apply(GameSession session);
 
-    public void remove(GameController controller) {
+    public void remove(GameSession session) {
 
     }
 
-    public void applyWithDuration(GameController controller, int durationMillis) {
-        apply(controller);
-        new Thread(() -> {
-            try {
-                Thread.sleep(durationMillis);
-                remove(controller);
-            } catch (InterruptedException ignored) {
-            }
-        }).start();
+    public boolean isTimed() {
+        return true;
+    }
+
+    public StackPolicy getStackPolicy() {
+        return StackPolicy.REFRESH;
     }
 }
@@ -3,13 +3,19 @@ package model.boost;
 import model.BoardModel;
 
 public class BoostFactory {
+    private static final BoostEffect HEALTH = new HealthBoost();
+    private static final BoostEffect SHIELD = new ShieldBoost();
+    private static final BoostEffect THUNDER = new ThunderBoost();
+    private static final BoostEffect ICE = new IceBoost();
+    private static final BoostEffect POISON = new PoisonBoost();
+
     public static BoostEffect getBoostForType(int boostType) {
         return switch (boostType) {
-            case BoardModel.BOOST_HEALTH -> new HealthBoost();
-            case BoardModel.BOOST_SHIELD -> new ShieldBoost();
-            case BoardModel.BOOST_THUNDER -> new ThunderBoost();
-            case BoardModel.BOOST_ICE -> new IceBoost();
-            case BoardModel.BOOST_POISON -> new PoisonBoost();
+            case BoardModel.BOOST_HEALTH -> HEALTH;
+            case BoardModel.BOOST_SHIELD -> SHIELD;
+            case BoardModel.BOOST_THUNDER -> THUNDER;
+            case BoardModel.BOOST_ICE -> ICE;
+            case BoardModel.BOOST_POISON -> POISON;
             default -> null;
         };
     }
@@ -0,0 +1,115 @@
+package model.boost;
+
+import model.GameSession;
+import model.engine.Steppable;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Hashed timing wheel for timed boosts. It only advances when stepped, so
+ * pausing whatever steps it pauses every running boost with the game.
+ * Each effect type has at most one pending expiry.
+ */
+public class EffectScheduler implements Steppable {
+    private static final class Timeout {
+        private final BoostEffect effect;
+        private long deadline;
+        private Timeout previous;
+        private Timeout next;
+
+        private Timeout(BoostEffect effect) {
+            this.effect = effect;
+        }
+    }
+
+    private final GameSession session;
+    private final long tickMillis;
+    private final Timeout[] wheel;
+    private final int mask;
+    private final Map<BoostEffect, Timeout> active = new IdentityHashMap<>();
+    private long tick;
+
+    public EffectScheduler(GameSession session, long tickMillis, int wheelSize) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two: " + wheelSize);
+        }
+        this.session = session;
+        this.tickMillis = tickMillis;
+        this.wheel = new Timeout[wheelSize];
+        this.mask = wheelSize - 1;
+    }
+
+    public void activate(BoostEffect effect, long durationMillis) {
+        if (!effect.isTimed()) {
+            effect.apply(session);
+            return;
+        }
+        long ticks = Math.max(1, (durationMillis + tickMillis - 1) / tickMillis);
+        Timeout timeout = active.get(effect);
+        if (timeout == null) {
+            timeout = new Timeout(effect);
+            active.put(effect, timeout);
+            effect.apply(session);
+            timeout.deadline = tick + ticks;
+        } else {
+            unlink(timeout);
+            timeout.deadline = switch (effect.getStackPolicy()) {
+                case REFRESH -> tick + ticks;
+                case EXTEND -> timeout.deadline + ticks;
+            };
+        }
+        link(timeout);
+    }
+
+    public boolean isActive(BoostEffect effect) {
+        return active.containsKey(effect);
+    }
+
+    public long getRemainingMillis(BoostEffect effect) {
+        Timeout timeout = active.get(effect);
+        return (timeout != null) ? (timeout.deadline - tick) * tickMillis : 0;
+    }
+
+    @Override
+    public long step() {
+        tick++;
+        Timeout timeout = wheel[(int) (tick & mask)];
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.deadline <= tick) {
+                unlink(timeout);
+                active.remove(timeout.effect);
+                timeout.effect.remove(session);
+            }
+            timeout = next;
+        }
+        return tickMillis;
+    }
+
+    public void clear() {
+        active.clear();
+        Arrays.fill(wheel, null);
+    }
+
+    private void link(Timeout timeout) {
+        int bucket = (int) (timeout.deadline & mask);
+        Timeout head = wheel[bucket];
+        timeout.previous = null;
+        timeout.next = head;
+        if (head != null) head.previous = timeout;
+        wheel[bucket] = timeout;
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.previous != null) {
+            timeout.previous.next = timeout.next;
+        } else {
+            wheel[(int) (timeout.deadline & mask)] = timeout.next;
+        }
+        if (timeout.next != null) timeout.next.previous = timeout.previous;
+        timeout.previous = null;
+        timeout.next = null;
+    }
+}
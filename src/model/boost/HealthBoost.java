@@ -1,10 +1,15 @@
 package model.boost;
 
-import controller.GameController;
+import model.GameSession;
 
 public class HealthBoost extends BoostEffect {
     @Override
-    public void apply(GameController controller) {
-        controller.updateLives(1);
+    public void apply(GameSession session) {
+        session.updateLives(1);
+    }
+
+    @Override
+    public boolean isTimed() {
+        return false;
     }
 }
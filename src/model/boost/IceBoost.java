@@ -1,15 +1,15 @@
 package model.boost;
 
-import controller.GameController;
+import model.GameSession;
 
 public class IceBoost extends BoostEffect {
     @Override
-    public void apply(GameController controller) {
-        controller.freezeGhosts(true);
+    public void apply(GameSession session) {
+        session.freezeGhosts(true);
     }
 
     @Override
-    public void remove(GameController controller) {
-        controller.freezeGhosts(false);
+    public void remove(GameSession session) {
+        session.freezeGhosts(false);
     }
 }
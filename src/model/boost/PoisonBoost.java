@@ -1,15 +1,15 @@
 package model.boost;
 
-import controller.GameController;
+import model.GameSession;
 
 public class PoisonBoost extends BoostEffect {
     @Override
-    public void apply(GameController controller) {
-        controller.setGhostsConfused(true);
+    public void apply(GameSession session) {
+        session.setGhostsConfused(true);
     }
 
     @Override
-    public void remove(GameController controller) {
-        controller.setGhostsConfused(false);
+    public void remove(GameSession session) {
+        session.setGhostsConfused(false);
     }
 }
@@ -1,15 +1,20 @@
 package model.boost;
 
-import controller.GameController;
+import model.GameSession;
 
 public class ShieldBoost extends BoostEffect {
     @Override
-    public void apply(GameController controller) {
-        controller.setInvincible(true);
+    public void apply(GameSession session) {
+        session.setInvincible(true);
     }
 
     @Override
-    public void remove(GameController controller) {
-        controller.setInvincible(false);
+    public void remove(GameSession session) {
+        session.setInvincible(false);
+    }
+
+    @Override
+    public StackPolicy getStackPolicy() {
+        return StackPolicy.EXTEND;
     }
 }
@@ -0,0 +1,6 @@
+package model.boost;
+
+public enum StackPolicy {
+    REFRESH,
+    EXTEND
+}
@@ -1,15 +1,15 @@
 package model.boost;
 
-import controller.GameController;
+import model.GameSession;
 
 public class ThunderBoost extends BoostEffect {
     @Override
-    public void apply(GameController controller) {
-        controller.setPacmanSpeedBoost(true);
+    public void apply(GameSession session) {
+        session.setPacmanSpeedBoost(true);
     }
 
     @Override
-    public void remove(GameController controller) {
-        controller.setPacmanSpeedBoost(false);
+    public void remove(GameSession session) {
+        session.setPacmanSpeedBoost(false);
     }
 }
@@ -0,0 +1,8 @@
+package model.command;
+
+import model.BoardModel;
+
+@FunctionalInterface
+public interface BoardCommand {
+    void execute(BoardModel board);
+}
@@ -0,0 +1,94 @@
+package model.command;
+
+import model.BoardModel;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock-free multi-producer, single-consumer queue of board mutations.
+ * Any thread may submit; only the owner thread may drain.
+ */
+public class BoardCommandQueue {
+    private static final class Node {
+        private BoardCommand command;
+        private volatile Node next;
+
+        private Node(BoardCommand command) {
+            this.command = command;
+        }
+    }
+
+    private final AtomicReference<Node> tail;
+    private Node head;
+    private volatile Thread owner;
+
+    public BoardCommandQueue() {
+        Node stub = new Node(null);
+        this.head = stub;
+        this.tail = new AtomicReference<>(stub);
+    }
+
+    public void setOwner(Thread owner) {
+        this.owner = owner;
+    }
+
+    public void submit(BoardCommand command) {
+        Node node = new Node(command);
+        link(node, node);
+    }
+
+    public Batch batch() {
+        return new Batch();
+    }
+
+    private void link(Node first, Node last) {
+        Node previous = tail.getAndSet(last);
+        previous.next = first;
+        Thread current = owner;
+        if (current != null) LockSupport.unpark(current);
+    }
+
+    public int drain(BoardModel board) {
+        int executed = 0;
+        Node next;
+        while ((next = head.next) != null) {
+            BoardCommand command = next.command;
+            next.command = null;
+            head = next;
+            command.execute(board);
+            executed++;
+        }
+        return executed;
+    }
+
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+
+    public class Batch {
+        private Node first;
+        private Node last;
+
+        private Batch() {
+        }
+
+        public Batch add(BoardCommand command) {
+            Node node = new Node(command);
+            if (first == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+            return this;
+        }
+
+        public void submit() {
+            if (first == null) return;
+            link(first, last);
+            first = null;
+            last = null;
+        }
+    }
+}
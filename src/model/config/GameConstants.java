@@ -1,10 +1,22 @@
 package model.config;
 
+import model.engine.ExecutionMode;
 import model.entity.GhostConfig;
 
 import java.util.List;
 
 public class GameConstants {
+    public static final ExecutionMode EXECUTION_MODE = ExecutionMode.fromProperty(System.getProperty("pacman.execution"));
+    public static final int TICK_MILLIS = 10;
+    public static final int BOOST_DURATION = 5000;
+    public static final int EFFECT_TICK_MILLIS = 100;
+    public static final int EFFECT_WHEEL_SIZE = 64;
+    public static final int MIN_BOARD_SIZE = 10;
+    public static final int MAX_BOARD_SIZE = 4000;
+    public static final int TILED_MAZE_SIZE = 1000;
+    // Frame cap for the board view; 0 renders as soon as something changes
+    public static final int TARGET_FPS = Integer.getInteger("pacman.fps", 60);
+
     public static final List<GhostConfig> DEFAULT_GHOSTS = List.of(
 
             new GhostConfig(0, 0, 250, "blinky"),
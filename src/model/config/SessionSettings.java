@@ -0,0 +1,42 @@
+package model.config;
+
+import model.entity.GhostConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SessionSettings {
+    public static final SessionSettings DEFAULT = new SessionSettings(GameConstants.DEFAULT_GHOSTS, 5000, 25);
+
+    public final List<GhostConfig> ghosts;
+    public final int powerUpInterval;
+    public final int powerUpChance;
+
+    public SessionSettings(List<GhostConfig> ghosts, int powerUpInterval, int powerUpChance) {
+        this.ghosts = List.copyOf(ghosts);
+        this.powerUpInterval = powerUpInterval;
+        this.powerUpChance = powerUpChance;
+    }
+
+    public SessionSettings withGhosts(List<GhostConfig> ghosts) {
+        return new SessionSettings(ghosts, powerUpInterval, powerUpChance);
+    }
+
+    // The default personalities repeated; GameSession spreads them out around the spawn point.
+    public SessionSettings withGhostCount(int count) {
+        List<GhostConfig> repeated = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            repeated.add(GameConstants.DEFAULT_GHOSTS.get(i % GameConstants.DEFAULT_GHOSTS.size()));
+        }
+        return withGhosts(repeated);
+    }
+
+    public SessionSettings withPowerUps(int interval, int chance) {
+        return new SessionSettings(ghosts, interval, chance);
+    }
+
+    @Override
+    public String toString() {
+        return ghosts.size() + " ghosts, power-up every " + powerUpInterval + " ms at " + powerUpChance + "%";
+    }
+}
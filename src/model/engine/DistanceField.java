@@ -0,0 +1,82 @@
+package model.engine;
+
+import model.BoardModel;
+
+import java.util.Arrays;
+
+/**
+ * Breadth-first walking distance from one source cell to every reachable
+ * cell, shared by all ghosts. Each search stores base + distance with a
+ * base past every value of the previous search, so older entries read as
+ * unreachable and the array never needs clearing. The frontier is a ring
+ * buffer sized from the board edge that only grows for unusually wide
+ * frontiers.
+ */
+public class DistanceField {
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final BoardModel board;
+    private final int[] values;
+    private int[] queue;
+    private int head;
+    private int tail;
+    private int base = 1;
+    private int nextBase = 1;
+    private int source = -1;
+
+    public DistanceField(BoardModel board) {
+        this.board = board;
+        int size = board.getSize();
+        this.values = new int[size * size];
+        this.queue = new int[Integer.highestOneBit(Math.max(4 * size, 16) - 1) << 1];
+    }
+
+    public void update(int sourceIndex) {
+        if (sourceIndex == source) return;
+        source = sourceIndex;
+        if (nextBase > Integer.MAX_VALUE - values.length - 1) {
+            Arrays.fill(values, 0);
+            nextBase = 1;
+        }
+        base = nextBase;
+        if (sourceIndex < 0) return;
+
+        head = 0;
+        tail = 0;
+        int last = base;
+        enqueue(sourceIndex, base);
+        while (head != tail) {
+            int cell = queue[head++ & (queue.length - 1)];
+            int next = values[cell] + 1;
+            for (int exits = board.getExitsFast(cell); exits != 0; exits &= exits - 1) {
+                enqueue(board.neighbourFast(cell, Integer.numberOfTrailingZeros(exits)), next);
+            }
+            last = values[cell];
+        }
+        nextBase = last + 1;
+    }
+
+    private void enqueue(int cell, int value) {
+        if (values[cell] >= base) return;
+        values[cell] = value;
+        if (tail - head == queue.length) {
+            int[] larger = new int[queue.length * 2];
+            for (int i = head; i != tail; i++) {
+                larger[i - head] = queue[i & (queue.length - 1)];
+            }
+            queue = larger;
+            tail -= head;
+            head = 0;
+        }
+        queue[tail++ & (queue.length - 1)] = cell;
+    }
+
+    public int get(int index) {
+        int value = values[index];
+        return value >= base ? value - base : UNREACHABLE;
+    }
+
+    public int getSource() {
+        return source;
+    }
+}
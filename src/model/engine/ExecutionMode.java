@@ -0,0 +1,32 @@
+package model.engine;
+
+import java.util.concurrent.ThreadFactory;
+
+public enum ExecutionMode {
+    TICK_ENGINE,
+    PLATFORM_THREADS,
+    VIRTUAL_THREADS;
+
+    private static final ThreadFactory PLATFORM_FACTORY = Thread.ofPlatform().name("game-", 0).factory();
+    private static final ThreadFactory VIRTUAL_FACTORY = Thread.ofVirtual().name("game-virtual-", 0).factory();
+
+    public static ExecutionMode fromProperty(String value) {
+        if (value == null) return TICK_ENGINE;
+        return switch (value.toLowerCase()) {
+            case "threads", "platform" -> PLATFORM_THREADS;
+            case "virtual" -> VIRTUAL_THREADS;
+            default -> TICK_ENGINE;
+        };
+    }
+
+    public boolean isThreadPerEntity() {
+        return this != TICK_ENGINE;
+    }
+
+    public ThreadFactory threadFactory() {
+        return switch (this) {
+            case VIRTUAL_THREADS -> VIRTUAL_FACTORY;
+            default -> PLATFORM_FACTORY;
+        };
+    }
+}
@@ -0,0 +1,253 @@
+package model.engine;
+
+import model.BoardModel;
+import model.GameSession;
+import model.entity.Direction;
+import model.entity.Ghost;
+import model.entity.GhostType;
+import model.entity.Pacman;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Every ghost in the session, stored as parallel primitive arrays indexed
+ * by slot and stepped together in one loop. Each ghost keeps a countdown
+ * to its next move, and step() returns the time until the soonest one, so
+ * the whole system is a single Steppable however many ghosts there are.
+ *
+ * Chasing reads the session's shared distance field from Pacman, so a
+ * decision is a few array lookups. Personalities only score that field
+ * differently:
+ * - blinky follows it straight down
+ * - pinky aims a few cells ahead of Pacman
+ * - inky aims at the point opposite blinky across Pacman's path
+ * - clyde chases from afar but runs once it gets close
+ *
+ * Ghost objects are views over a slot, created only when the UI asks.
+ */
+public class GhostSystem implements Steppable {
+    private static final int PINKY_LOOKAHEAD = 4;
+    private static final int INKY_PIVOT = 2;
+    private static final int CLYDE_FLEE_DISTANCE = 8;
+    private static final GhostType[] TYPES = GhostType.values();
+
+    private final GameSession session;
+    private final BoardModel board;
+    private final SplittableRandom random;
+    private int count;
+    private int[] cells = new int[4];
+    private int[] speeds = new int[4];
+    private int[] waits = new int[4];
+    private byte[] lastDirections = new byte[4];
+    private byte[] types = new byte[4];
+    private boolean[] confused = new boolean[4];
+    private int blinky = -1;
+    private long elapsed;
+    private List<Ghost> views;
+
+    public GhostSystem(GameSession session, SplittableRandom random) {
+        this.session = session;
+        this.board = session.getBoardModel();
+        this.random = random;
+    }
+
+    /** Adds a ghost at the free open cell nearest to (row, col) and returns its slot. */
+    public int spawn(GhostType type, int row, int col, int speed) {
+        if (count == cells.length) grow();
+        int slot = count++;
+        int cell = findSpawnCell(row, col);
+        cells[slot] = cell;
+        speeds[slot] = speed;
+        waits[slot] = 0;
+        lastDirections[slot] = Direction.NONE;
+        types[slot] = (byte) type.ordinal();
+        if (type == GhostType.BLINKY && blinky < 0) blinky = slot;
+        board.placeGhost(BoardModel.FIRST_GHOST_ENTITY + slot, cell / board.getSize(), cell % board.getSize());
+        views = null;
+        return slot;
+    }
+
+    private void grow() {
+        int capacity = cells.length * 2;
+        cells = Arrays.copyOf(cells, capacity);
+        speeds = Arrays.copyOf(speeds, capacity);
+        waits = Arrays.copyOf(waits, capacity);
+        lastDirections = Arrays.copyOf(lastDirections, capacity);
+        types = Arrays.copyOf(types, capacity);
+        confused = Arrays.copyOf(confused, capacity);
+    }
+
+    // Nearest by square rings; many ghosts sharing one spawn point spread out instead of stacking.
+    private int findSpawnCell(int row, int col) {
+        int size = board.getSize();
+        for (int radius = 0; radius < size; radius++) {
+            for (int r = row - radius; r <= row + radius; r++) {
+                for (int c = col - radius; c <= col + radius; c++) {
+                    if (Math.max(Math.abs(r - row), Math.abs(c - col)) != radius) continue;
+                    if (board.isWall(r, c)) continue;
+                    int cell = board.index(r, c);
+                    if (board.getOccupantFast(cell) == BoardModel.NO_ENTITY) return cell;
+                }
+            }
+        }
+        throw new IllegalStateException("No free cell for another ghost");
+    }
+
+    @Override
+    public long step() {
+        int elapsedMillis = (int) elapsed;
+        boolean idle = session.isOver() || session.areGhostsFrozen();
+        int next = Integer.MAX_VALUE;
+        for (int slot = 0; slot < count; slot++) {
+            int wait = waits[slot] - elapsedMillis;
+            if (wait <= 0) {
+                if (!idle) move(slot);
+                wait = speeds[slot];
+            }
+            waits[slot] = wait;
+            if (wait < next) next = wait;
+        }
+        elapsed = count == 0 ? Long.MAX_VALUE / 2 : next;
+        return elapsed;
+    }
+
+    private void move(int slot) {
+        int index = cells[slot];
+        int exits = board.getExitsFast(index);
+        for (int open = exits; open != 0; open &= open - 1) {
+            int dir = Integer.numberOfTrailingZeros(open);
+            if (board.getOccupantFast(board.neighbourFast(index, dir)) >= BoardModel.FIRST_GHOST_ENTITY) exits &= ~(1 << dir);
+        }
+        // Only turn back at a dead end; in a corridor that leaves one way on, so only junctions need a decision.
+        int reverse = Direction.opposite(lastDirections[slot]);
+        if (reverse != Direction.NONE && Integer.bitCount(exits) > 1 && !confused[slot]) exits &= ~(1 << reverse);
+        if (exits == 0) {
+            lastDirections[slot] = Direction.NONE;
+            return;
+        }
+
+        int dir;
+        if (Integer.bitCount(exits) == 1) {
+            dir = Integer.numberOfTrailingZeros(exits);
+        } else if (confused[slot]) {
+            dir = Direction.nth(exits, random.nextInt(Integer.bitCount(exits)));
+        } else {
+            dir = choose(slot, index, exits);
+        }
+        int size = board.getSize();
+        int target = board.neighbourFast(index, dir);
+        cells[slot] = target;
+        lastDirections[slot] = (byte) dir;
+        if (board.moveGhost(index / size, index % size, target / size, target % size)) {
+            session.onPacmanCaught();
+        }
+    }
+
+    private int choose(int slot, int index, int exits) {
+        DistanceField field = session.getPacmanDistances();
+        int here = field.get(index);
+        if (here == DistanceField.UNREACHABLE) return Direction.nth(exits, random.nextInt(Integer.bitCount(exits)));
+
+        int size = board.getSize();
+        Pacman pacman = session.getPacman();
+        GhostType personality = TYPES[types[slot]];
+        int heading = pacman.getDirection();
+        int targetRow = pacman.getY();
+        int targetCol = pacman.getX();
+        boolean flee = false;
+        switch (personality) {
+            case PINKY -> {
+                targetRow += PINKY_LOOKAHEAD * rowHeading(heading);
+                targetCol += PINKY_LOOKAHEAD * colHeading(heading);
+            }
+            case INKY -> {
+                int pivotRow = targetRow + INKY_PIVOT * rowHeading(heading);
+                int pivotCol = targetCol + INKY_PIVOT * colHeading(heading);
+                targetRow = blinky < 0 ? pivotRow : 2 * pivotRow - cells[blinky] / size;
+                targetCol = blinky < 0 ? pivotCol : 2 * pivotCol - cells[blinky] % size;
+            }
+            case CLYDE -> flee = here <= CLYDE_FLEE_DISTANCE;
+            default -> {
+            }
+        }
+        boolean offsetTarget = personality == GhostType.PINKY || personality == GhostType.INKY;
+
+        int best = Integer.numberOfTrailingZeros(exits);
+        long bestScore = Long.MAX_VALUE;
+        for (; exits != 0; exits &= exits - 1) {
+            int dir = Integer.numberOfTrailingZeros(exits);
+            int next = board.neighbourFast(index, dir);
+            int distance = field.get(next);
+            long score;
+            if (distance == DistanceField.UNREACHABLE) {
+                score = Long.MAX_VALUE - 1;
+            } else if (flee) {
+                score = -distance;
+            } else if (offsetTarget) {
+                score = distance + Math.abs(next / size - targetRow) + Math.abs(next % size - targetCol);
+            } else {
+                score = distance;
+            }
+            if (score < bestScore || score == bestScore && random.nextBoolean()) {
+                bestScore = score;
+                best = dir;
+            }
+        }
+        return best;
+    }
+
+    private static int rowHeading(int direction) {
+        return direction < 0 || direction >= Direction.COUNT ? 0 : Direction.rowDelta(direction);
+    }
+
+    private static int colHeading(int direction) {
+        return direction < 0 || direction >= Direction.COUNT ? 0 : Direction.colDelta(direction);
+    }
+
+    public void setAllConfused(boolean value) {
+        Arrays.fill(confused, 0, count, value);
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getRow(int slot) {
+        return cells[slot] / board.getSize();
+    }
+
+    public int getCol(int slot) {
+        return cells[slot] % board.getSize();
+    }
+
+    public int getSpeed(int slot) {
+        return speeds[slot];
+    }
+
+    public int getLastDirection(int slot) {
+        return lastDirections[slot];
+    }
+
+    public GhostType getType(int slot) {
+        return TYPES[types[slot]];
+    }
+
+    public boolean isConfused(int slot) {
+        return confused[slot];
+    }
+
+    public List<Ghost> views() {
+        if (views == null) {
+            List<Ghost> created = new ArrayList<>(count);
+            for (int slot = 0; slot < count; slot++) {
+                created.add(new Ghost(this, slot));
+            }
+            views = Collections.unmodifiableList(created);
+        }
+        return views;
+    }
+}
@@ -0,0 +1,72 @@
+package model.engine;
+
+import model.BoardModel;
+import model.GameSession;
+import model.entity.Direction;
+import model.entity.Pacman;
+
+public class PacmanStepper implements Steppable {
+    private static final int NORMAL_DELAY = 140;
+    private static final int BOOSTED_DELAY = 40;
+
+    private final GameSession session;
+    private final Pacman pacman;
+    private final int movementSpeed;
+    private volatile int nextDirection;
+    private int currentDirection;
+
+    public PacmanStepper(GameSession session, Pacman pacman, int movementSpeed) {
+        this.session = session;
+        this.pacman = pacman;
+        this.movementSpeed = movementSpeed;
+        this.currentDirection = Direction.RIGHT;
+        this.nextDirection = Direction.RIGHT;
+    }
+
+    public void setDirection(int direction) {
+        this.nextDirection = direction;
+    }
+
+    @Override
+    public long step() {
+        if (session.isOver()) return movementSpeed;
+        int direction = nextDirection;
+        boolean moved;
+        if (tryMove(direction)) {
+            currentDirection = direction;
+            moved = true;
+        } else {
+            moved = tryMove(currentDirection);
+        }
+        int delay = session.isPacmanSpeedBoost() ? BOOSTED_DELAY : NORMAL_DELAY;
+        return moved ? delay + movementSpeed : movementSpeed;
+    }
+
+    private boolean tryMove(int direction) {
+        BoardModel boardModel = session.getBoardModel();
+        int row = pacman.getY();
+        int col = pacman.getX();
+        if (!boardModel.canMove(boardModel.index(row, col), direction)) return false;
+        int newRow = row + Direction.rowDelta(direction);
+        int newCol = col + Direction.colDelta(direction);
+
+        int eaten = boardModel.movePacman(row, col, newRow, newCol);
+        pacman.setX(newCol);
+        pacman.setY(newRow);
+        pacman.setDirection(direction);
+
+        switch (eaten) {
+            case BoardModel.DOT -> session.updateScore(10);
+            case BoardModel.BIG_DOT -> session.updateScore(50);
+            case BoardModel.BOOST_HEALTH,
+                    BoardModel.BOOST_SHIELD,
+                    BoardModel.BOOST_THUNDER,
+                    BoardModel.BOOST_ICE,
+                    BoardModel.BOOST_POISON -> session.onBoostCollected(eaten);
+        }
+
+        session.checkGhostCollision(newRow, newCol);
+        session.checkVictory();
+        return true;
+    }
+}
@@ -0,0 +1,57 @@
+package model.engine;
+
+import model.BoardModel;
+import model.GameSession;
+import model.entity.Direction;
+
+import java.util.Random;
+
+public class PowerUpGenerator implements Steppable {
+    private final GameSession session;
+    private final Random random;
+    private final int generationInterval;
+    private final int generationChance;
+
+    public PowerUpGenerator(GameSession session, int generationInterval, int generationChance, Random random) {
+        this.session = session;
+        this.random = random;
+        this.generationInterval = generationInterval;
+        this.generationChance = generationChance;
+    }
+
+    public int getGenerationInterval() {
+        return generationInterval;
+    }
+
+    @Override
+    public long step() {
+        if (session.isOver()) return generationInterval;
+        GhostSystem ghosts = session.getGhostSystem();
+        for (int slot = 0; slot < ghosts.getCount(); slot++) {
+            if (random.nextInt(100) < generationChance) {
+                int boostType = random.nextInt(5) + 6; // 6 to 10
+                spawnBoostNear(session.getBoardModel(), ghosts.getRow(slot), ghosts.getCol(slot), boostType);
+            }
+        }
+        return generationInterval;
+    }
+
+    private void spawnBoostNear(BoardModel boardModel, int row, int col, int boostType) {
+        int exits = boardModel.getExits(row, col);
+
+        for (int dir = 0; dir < Direction.COUNT; dir++) {
+            if ((exits & (1 << dir)) == 0) continue;
+            int newRow = row + Direction.rowDelta(dir);
+            int newCol = col + Direction.colDelta(dir);
+
+            int current = boardModel.getTile(newRow, newCol);
+            boolean isFree = current == BoardModel.EMPTY || current == BoardModel.DOT;
+            boolean isNotBoost = current < BoardModel.BOOST_HEALTH || current > BoardModel.BOOST_SHIELD;
+
+            if (isFree && isNotBoost) {
+                boardModel.setTile(newRow, newCol, boostType);
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package model.engine;
+
+public interface StepScheduler {
+    void schedule(Steppable steppable, long initialDelayMillis);
+}
@@ -0,0 +1,11 @@
+package model.engine;
+
+@FunctionalInterface
+public interface Steppable {
+    /**
+     * Advances the entity by one step on the board owner thread.
+     *
+     * @return delay in milliseconds before the entity wants to step again
+     */
+    long step();
+}
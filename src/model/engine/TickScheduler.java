@@ -0,0 +1,134 @@
+package model.engine;
+
+import model.BoardModel;
+import model.command.BoardCommandQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs every scheduled entity on one thread against fixed System.nanoTime
+ * deadlines, so oversleeping one tick is paid back on the next instead of
+ * accumulating. Entities step in registration order, which keeps a tick
+ * deterministic, and the scheduler thread is also the board's single writer.
+ */
+public class TickScheduler implements Runnable, StepScheduler {
+    private static final int MAX_LAG_TICKS = 10;
+
+    private final BoardModel boardModel;
+    private final BoardCommandQueue commands;
+    private final long tickMillis;
+    private final long tickNanos;
+    private final List<ScheduledTask> tasks = new ArrayList<>();
+    private final Object pauseLock = new Object();
+    private volatile boolean running;
+    private volatile boolean paused;
+    private long tick;
+    private Thread thread;
+
+    public TickScheduler(BoardModel boardModel, BoardCommandQueue commands, long tickMillis) {
+        this.boardModel = boardModel;
+        this.commands = commands;
+        this.tickMillis = tickMillis;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+    }
+
+    @Override
+    public void schedule(Steppable steppable, long initialDelayMillis) {
+        tasks.add(new ScheduledTask(steppable, tick + toTicks(initialDelayMillis)));
+    }
+
+    public long toTicks(long millis) {
+        return Math.max(1, (millis + tickMillis / 2) / tickMillis);
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public void start() {
+        running = true;
+        thread = new Thread(this, "tick-engine");
+        commands.setOwner(thread);
+        thread.start();
+    }
+
+    public void stop() {
+        running = false;
+        commands.setOwner(null);
+        resume();
+    }
+
+    public void pause() {
+        paused = true;
+    }
+
+    public void resume() {
+        synchronized (pauseLock) {
+            paused = false;
+            pauseLock.notifyAll();
+        }
+        if (thread != null) LockSupport.unpark(thread);
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    @Override
+    public void run() {
+        long deadline = System.nanoTime();
+        while (running) {
+            if (paused) {
+                if (!awaitResume()) return;
+                deadline = System.nanoTime();
+            }
+            runTick();
+            deadline += tickNanos;
+            long wait;
+            while (running && !paused && (wait = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(this, wait);
+            }
+            if (System.nanoTime() - deadline > MAX_LAG_TICKS * tickNanos) {
+                deadline = System.nanoTime();
+            }
+        }
+    }
+
+    private boolean awaitResume() {
+        synchronized (pauseLock) {
+            while (paused && running) {
+                try {
+                    pauseLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return running;
+    }
+
+    public void runTick() {
+        commands.drain(boardModel);
+        for (int i = 0; i < tasks.size(); i++) {
+            ScheduledTask task = tasks.get(i);
+            if (tick >= task.nextTick) {
+                task.nextTick = tick + toTicks(task.steppable.step());
+            }
+        }
+        tick++;
+    }
+
+    private static final class ScheduledTask {
+        private final Steppable steppable;
+        private long nextTick;
+
+        private ScheduledTask(Steppable steppable, long nextTick) {
+            this.steppable = steppable;
+            this.nextTick = nextTick;
+        }
+    }
+}
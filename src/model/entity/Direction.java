@@ -0,0 +1,34 @@
+package model.entity;
+
+public final class Direction {
+    public static final int NONE = -1;
+    public static final int RIGHT = 0;
+    public static final int DOWN = 1;
+    public static final int LEFT = 2;
+    public static final int UP = 3;
+    public static final int COUNT = 4;
+
+    private static final int[] ROW_DELTA = {0, 1, 0, -1};
+    private static final int[] COL_DELTA = {1, 0, -1, 0};
+
+    private Direction() {
+    }
+
+    public static int rowDelta(int direction) {
+        return ROW_DELTA[direction];
+    }
+
+    public static int colDelta(int direction) {
+        return COL_DELTA[direction];
+    }
+
+    // The n-th direction (0-based, in direction order) whose bit is set in an exits mask.
+    public static int nth(int exits, int n) {
+        for (int i = 0; i < n; i++) exits &= exits - 1;
+        return Integer.numberOfTrailingZeros(exits);
+    }
+
+    public static int opposite(int direction) {
+        return (direction == NONE) ? NONE : (direction + 2) & 3;
+    }
+}
@@ -1,13 +1,11 @@
 package model.entity;
 
+import interfaces.Animated;
 import interfaces.Movement;
 
-import java.awt.*;
-
-public abstract class Entity implements Movement {
+public abstract class Entity implements Movement, Animated {
     protected int x;
     protected int y;
-    protected Image[] sprites;
     protected int currentSpriteIndex;
     protected boolean isMoving;
     protected int speed;
@@ -36,6 +34,10 @@ public abstract class Entity implements Movement {
         this.y = y;
     }
 
+    public int getSpeed() {
+        return speed;
+    }
+
     public boolean isMoving() {
         return isMoving;
     }
@@ -43,6 +45,7 @@ public abstract class Entity implements Movement {
     public void setMoving(boolean moving) {
         isMoving = moving;
     }
+    @Override
     public abstract void updateAnimation();
     @Override
     public void stop() {
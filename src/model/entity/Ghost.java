@@ -1,94 +1,62 @@
 package model.entity;
 
-import interfaces.Movement;
-import java.awt.*;
-import java.util.Random;
-
-public class Ghost extends Entity {
-    private int direction;
-    private final Random random;
-
-    private int lastDirection = -1;
-    private boolean confused = false;
-    private final String type;
+import interfaces.Animated;
+import model.BoardModel;
+import model.engine.GhostSystem;
+
+/**
+ * Read-only view of one slot in a GhostSystem, for code that wants a ghost
+ * object (rendering, animation). Position and state live in the system's
+ * arrays and only change through it; the animation frame is kept here.
+ */
+public class Ghost implements Animated {
+    private final GhostSystem system;
+    private final int slot;
     private int animationFrame = 1;
 
-
-    public Ghost(int x, int y, int speed, String type) {
-        super(x, y, speed);
-        this.direction = 0;
-        this.random = new Random();
-        this.type = type;
-        this.sprites = new Image[2];
+    public Ghost(GhostSystem system, int slot) {
+        this.system = system;
+        this.slot = slot;
     }
 
-    @Override
-    public void moveUp() {
-        if (!isMoving) {
-            direction = 3;
-            isMoving = true;
-        }
+    public int getX() {
+        return system.getCol(slot);
     }
 
-    @Override
-    public void moveDown() {
-        if (!isMoving) {
-            direction = 1;
-            isMoving = true;
-        }
+    public int getY() {
+        return system.getRow(slot);
     }
 
-    @Override
-    public void moveLeft() {
-        if (!isMoving) {
-            direction = 2;
-            isMoving = true;
-        }
+    public int getSpeed() {
+        return system.getSpeed(slot);
     }
 
-    @Override
-    public void moveRight() {
-        if (!isMoving) {
-            direction = 0;
-            isMoving = true;
-        }
+    public int getId() {
+        return BoardModel.FIRST_GHOST_ENTITY + slot;
     }
 
-    public void moveRandomly() {
-        int newDirection = random.nextInt(4);
-        switch (newDirection) {
-            case 0 -> moveRight();
-            case 1 -> moveDown();
-            case 2 -> moveLeft();
-            case 3 -> moveUp();
-        }
-    }
     public String getType() {
-        return type;
+        return getPersonality().name().toLowerCase();
     }
 
-    @Override
-    public void updateAnimation() {
-        animationFrame = (animationFrame == 1) ? 2 : 1;
-    }
-    public int getLastDirection() {
-        return lastDirection;
+    public GhostType getPersonality() {
+        return system.getType(slot);
     }
 
-    public void setLastDirection(int dir) {
-        this.lastDirection = dir;
+    public int getLastDirection() {
+        return system.getLastDirection(slot);
     }
 
-    public void setConfused(boolean confused) {
-        this.confused = confused;
+    public boolean isConfused() {
+        return system.isConfused(slot);
     }
 
-    public boolean isConfused() {
-        return confused;
+    @Override
+    public void updateAnimation() {
+        animationFrame = (animationFrame == 1) ? 2 : 1;
     }
 
     public int getAnimationFrame() {
         return animationFrame;
     }
-
 }
@@ -0,0 +1,12 @@
+package model.entity;
+
+public enum GhostType {
+    BLINKY, PINKY, INKY, CLYDE;
+
+    public static GhostType fromName(String name) {
+        for (GhostType type : values()) {
+            if (type.name().equalsIgnoreCase(name)) return type;
+        }
+        return BLINKY;
+    }
+}
@@ -1,13 +1,11 @@
 package model.entity;
 
 import interfaces.Movement;
-import model.utils.ResourceManager;
-
-import java.awt.*;
 
 public class Pacman extends Entity {
     private int direction;
     private int animationFrame;
+    private int animationStep = 1;
 
     public Pacman(int x, int y, int speed) {
         super(x, y, speed);
@@ -41,12 +39,11 @@ public class Pacman extends Entity {
 
     @Override
     public void updateAnimation() {
-        if (isMoving()) {
-            animationFrame = (animationFrame + 1) % 3;
-        }
+        if (animationFrame == 0) animationStep = 1;
+        else if (animationFrame == 2) animationStep = -1;
+        setAnimationFrame(animationFrame + animationStep);
     }
 
-
     public int getDirection() {
         return direction;
     }
@@ -0,0 +1,103 @@
+package model.simulation;
+
+import model.GameSession;
+import model.config.GameConstants;
+import model.config.SessionSettings;
+import model.entity.Direction;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongFunction;
+
+/**
+ * Plays many independent seeded games headlessly on a ForkJoinPool. Each game
+ * owns its board, session and policy, so workers share nothing but the
+ * immutable settings and the result is the same for any parallelism.
+ */
+public class BatchSimulator {
+    private static final int GAMES_PER_TASK = 4;
+
+    private final int boardSize;
+    private final SessionSettings settings;
+    private final LongFunction<PacmanPolicy> policies;
+    private final long maxTicks;
+    private final ForkJoinPool pool;
+
+    public BatchSimulator(int boardSize, SessionSettings settings, LongFunction<PacmanPolicy> policies,
+                          long maxTicks, ForkJoinPool pool) {
+        this.boardSize = boardSize;
+        this.settings = settings;
+        this.policies = policies;
+        this.maxTicks = maxTicks;
+        this.pool = pool;
+    }
+
+    public SimulationStats run(long firstSeed, int games) {
+        return pool.invoke(new GameRange(firstSeed, firstSeed + games));
+    }
+
+    public SimulationStats play(long seed, SimulationStats stats) {
+        GameSession session = GameSession.generate(boardSize, settings, seed);
+        PacmanPolicy policy = policies.apply(seed);
+        long ticks = 0;
+        while (!session.isOver() && ticks < maxTicks) {
+            int direction = policy.nextDirection(session);
+            if (direction != Direction.NONE) session.setDirection(direction);
+            session.tick();
+            ticks++;
+        }
+        stats.add(session.getScore(), ticks, session.isWon());
+        return stats;
+    }
+
+    private class GameRange extends RecursiveTask<SimulationStats> {
+        private final long from;
+        private final long to;
+
+        GameRange(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationStats compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                SimulationStats stats = new SimulationStats();
+                for (long seed = from; seed < to; seed++) {
+                    play(seed, stats);
+                }
+                return stats;
+            }
+            long mid = (from + to) >>> 1;
+            GameRange left = new GameRange(from, mid);
+            left.fork();
+            SimulationStats right = new GameRange(mid, to).compute();
+            return left.join().combine(right);
+        }
+    }
+
+    // Usage: BatchSimulator [games] [boardSize] [random|nearest] [powerUpInterval] [powerUpChance] [maxSeconds]
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int size = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        String policy = args.length > 2 ? args[2] : "nearest";
+        SessionSettings settings = SessionSettings.DEFAULT;
+        if (args.length > 4) {
+            settings = settings.withPowerUps(Integer.parseInt(args[3]), Integer.parseInt(args[4]));
+        }
+        long maxTicks = (args.length > 5 ? Long.parseLong(args[5]) : 300) * 1000 / GameConstants.TICK_MILLIS;
+
+        LongFunction<PacmanPolicy> policies = "random".equals(policy)
+                ? RandomPolicy::new
+                : seed -> new NearestDotPolicy();
+        BatchSimulator simulator = new BatchSimulator(size, settings, policies, maxTicks, ForkJoinPool.commonPool());
+
+        long start = System.nanoTime();
+        SimulationStats stats = simulator.run(0, games);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%dx%d %s policy, %s, parallelism %d%n", size, size, policy, settings,
+                ForkJoinPool.commonPool().getParallelism());
+        System.out.println(stats);
+        System.out.printf("%.1f games/s, %.0f ticks/s%n", games / seconds, stats.getTotalTicks() / seconds);
+    }
+}
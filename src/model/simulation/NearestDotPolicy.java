@@ -0,0 +1,62 @@
+package model.simulation;
+
+import model.BoardModel;
+import model.GameSession;
+import model.entity.Direction;
+import model.entity.Pacman;
+
+import java.util.Arrays;
+
+/**
+ * Scripted policy: breadth-first search to the closest dot or power pellet,
+ * recomputed each time Pacman enters a new cell. Search buffers are reused.
+ */
+public class NearestDotPolicy implements PacmanPolicy {
+    private int[] queue = new int[0];
+    private byte[] firstStep = new byte[0];
+    private int lastIndex = -1;
+    private int direction = Direction.NONE;
+
+    @Override
+    public int nextDirection(GameSession session) {
+        BoardModel board = session.getBoardModel();
+        Pacman pacman = session.getPacman();
+        int index = board.index(pacman.getY(), pacman.getX());
+        if (index == lastIndex) return Direction.NONE;
+        lastIndex = index;
+        direction = search(board, pacman.getY(), pacman.getX());
+        return direction;
+    }
+
+    private int search(BoardModel board, int startRow, int startCol) {
+        int size = board.getSize();
+        int cells = size * size;
+        if (queue.length < cells) {
+            queue = new int[cells];
+            firstStep = new byte[cells];
+        }
+        Arrays.fill(firstStep, 0, cells, (byte) -1);
+
+        int start = board.index(startRow, startCol);
+        firstStep[start] = Direction.COUNT;
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        while (head < tail) {
+            int cell = queue[head++];
+            int tile = board.getTileFast(cell);
+            if (cell != start && (tile == BoardModel.DOT || tile == BoardModel.BIG_DOT)) {
+                return firstStep[cell];
+            }
+            int exits = board.getExitsFast(cell);
+            for (int d = 0; d < Direction.COUNT; d++) {
+                if ((exits & (1 << d)) == 0) continue;
+                int next = board.neighbourFast(cell, d);
+                if (firstStep[next] != -1) continue;
+                firstStep[next] = (byte) (cell == start ? d : firstStep[cell]);
+                queue[tail++] = next;
+            }
+        }
+        return Direction.NONE;
+    }
+}
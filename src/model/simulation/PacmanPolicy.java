@@ -0,0 +1,11 @@
+package model.simulation;
+
+import model.GameSession;
+
+/**
+ * Steers Pacman in a headless game. Called once before every tick; returning
+ * Direction.NONE leaves the current direction unchanged.
+ */
+public interface PacmanPolicy {
+    int nextDirection(GameSession session);
+}
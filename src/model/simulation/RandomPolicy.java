@@ -0,0 +1,40 @@
+package model.simulation;
+
+import model.BoardModel;
+import model.GameSession;
+import model.entity.Direction;
+import model.entity.Pacman;
+
+import java.util.Random;
+
+/**
+ * Keeps going until blocked, occasionally turning at junctions.
+ */
+public class RandomPolicy implements PacmanPolicy {
+    private static final int TURN_CHANCE = 20;
+
+    private final Random random;
+    private int direction = Direction.RIGHT;
+    private int lastIndex = -1;
+
+    public RandomPolicy(long seed) {
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public int nextDirection(GameSession session) {
+        BoardModel board = session.getBoardModel();
+        Pacman pacman = session.getPacman();
+        int index = board.index(pacman.getY(), pacman.getX());
+        if (index == lastIndex) return Direction.NONE;
+        lastIndex = index;
+
+        int exits = board.getExitsFast(index);
+        boolean blocked = (exits & (1 << direction)) == 0;
+        if (!blocked && random.nextInt(100) >= TURN_CHANCE) return direction;
+
+        if (!blocked && Integer.bitCount(exits) > 1) exits &= ~(1 << Direction.opposite(direction));
+        if (exits != 0) direction = Direction.nth(exits, random.nextInt(Integer.bitCount(exits)));
+        return direction;
+    }
+}
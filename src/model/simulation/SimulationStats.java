@@ -0,0 +1,94 @@
+package model.simulation;
+
+import model.config.GameConstants;
+
+/**
+ * Aggregated outcome of a batch of games. Mergeable so that fork/join
+ * subtasks can each keep their own and combine on the way up.
+ */
+public class SimulationStats {
+    private long games;
+    private long victories;
+    private long scoreSum;
+    private double scoreSquares;
+    private int minScore = Integer.MAX_VALUE;
+    private int maxScore = Integer.MIN_VALUE;
+    private long tickSum;
+    private double tickSquares;
+
+    public void add(int score, long ticks, boolean won) {
+        games++;
+        if (won) victories++;
+        scoreSum += score;
+        scoreSquares += (double) score * score;
+        minScore = Math.min(minScore, score);
+        maxScore = Math.max(maxScore, score);
+        tickSum += ticks;
+        tickSquares += (double) ticks * ticks;
+    }
+
+    public SimulationStats combine(SimulationStats other) {
+        games += other.games;
+        victories += other.victories;
+        scoreSum += other.scoreSum;
+        scoreSquares += other.scoreSquares;
+        minScore = Math.min(minScore, other.minScore);
+        maxScore = Math.max(maxScore, other.maxScore);
+        tickSum += other.tickSum;
+        tickSquares += other.tickSquares;
+        return this;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getVictories() {
+        return victories;
+    }
+
+    public double getVictoryRate() {
+        return games == 0 ? 0 : (double) victories / games;
+    }
+
+    public double getMeanScore() {
+        return games == 0 ? 0 : (double) scoreSum / games;
+    }
+
+    public double getScoreStdDev() {
+        return stdDev(scoreSum, scoreSquares);
+    }
+
+    public int getMinScore() {
+        return games == 0 ? 0 : minScore;
+    }
+
+    public int getMaxScore() {
+        return games == 0 ? 0 : maxScore;
+    }
+
+    public long getTotalTicks() {
+        return tickSum;
+    }
+
+    public double getMeanSurvivalSeconds() {
+        return games == 0 ? 0 : (double) tickSum / games * GameConstants.TICK_MILLIS / 1000.0;
+    }
+
+    public double getSurvivalStdDevSeconds() {
+        return stdDev(tickSum, tickSquares) * GameConstants.TICK_MILLIS / 1000.0;
+    }
+
+    private double stdDev(long sum, double squares) {
+        if (games < 2) return 0;
+        double mean = (double) sum / games;
+        return Math.sqrt(Math.max(0, (squares - mean * sum) / (games - 1)));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("games=%d victories=%.1f%% score=%.1f+/-%.1f [%d..%d] survival=%.1f+/-%.1fs",
+                games, getVictoryRate() * 100, getMeanScore(), getScoreStdDev(), getMinScore(), getMaxScore(),
+                getMeanSurvivalSeconds(), getSurvivalStdDevSeconds());
+    }
+}
@@ -0,0 +1,79 @@
+package model.threads;
+
+import interfaces.Animated;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+public class AnimationClock {
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "animation-clock");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final class Sprite {
+        private final Animated entity;
+        private final int frameTicks;
+
+        private Sprite(Animated entity, int frameTicks) {
+            this.entity = entity;
+            this.frameTicks = frameTicks;
+        }
+    }
+
+    private final List<Sprite> sprites = new CopyOnWriteArrayList<>();
+    private final int tickMillis;
+    private final Runnable onFrame;
+    private volatile boolean paused;
+    private long tick;
+    private ScheduledFuture<?> future;
+
+    public AnimationClock(int tickMillis, Runnable onFrame) {
+        this.tickMillis = tickMillis;
+        this.onFrame = onFrame;
+    }
+
+    public void register(Animated entity, int frameDelay) {
+        sprites.add(new Sprite(entity, Math.max(1, frameDelay / tickMillis)));
+    }
+
+    public void start() {
+        future = SCHEDULER.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (future != null) future.cancel(false);
+        future = null;
+        sprites.clear();
+    }
+
+    public void pause() {
+        paused = true;
+    }
+
+    public void resume() {
+        paused = false;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    private void tick() {
+        if (paused) return;
+        boolean advanced = false;
+        for (Sprite sprite : sprites) {
+            if (tick % sprite.frameTicks == 0) {
+                sprite.entity.updateAnimation();
+                advanced = true;
+            }
+        }
+        tick++;
+        if (advanced) onFrame.run();
+    }
+}
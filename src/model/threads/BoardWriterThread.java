@@ -0,0 +1,41 @@
+package model.threads;
+
+import model.BoardModel;
+import model.command.BoardCommandQueue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+public class BoardWriterThread extends GameThread {
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final BoardModel boardModel;
+    private final BoardCommandQueue commands;
+
+    public BoardWriterThread(BoardModel boardModel, BoardCommandQueue commands) {
+        super();
+        this.boardModel = boardModel;
+        this.commands = commands;
+    }
+
+    @Override
+    public void run() {
+        commands.setOwner(Thread.currentThread());
+        super.run();
+    }
+
+    @Override
+    protected void doAction() {
+        if (commands.drain(boardModel) == 0) {
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+    }
+
+    @Override
+    public void stopThread() {
+        super.stopThread();
+        commands.setOwner(null);
+        Thread thread = getThread();
+        if (thread != null) LockSupport.unpark(thread);
+    }
+}
@@ -1,18 +1,37 @@
 package model.threads;
 
-public abstract class GameThread extends Thread {
+import model.config.GameConstants;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public abstract class GameThread implements Runnable {
     protected volatile boolean running;
     protected volatile boolean paused;
-    protected final Object pauseLock = new Object();
+    // Lock/Condition rather than a monitor so a paused virtual thread unmounts instead of pinning its carrier
+    protected final ReentrantLock pauseLock = new ReentrantLock();
+    private final Condition resumed = pauseLock.newCondition();
+    private volatile Thread thread;
 
     public GameThread() {
         this.running = true;
         this.paused = false;
     }
 
+    public void start() {
+        start(GameConstants.EXECUTION_MODE.threadFactory());
+    }
+
+    public void start(ThreadFactory threadFactory) {
+        thread = threadFactory.newThread(this);
+        thread.start();
+    }
+
     public void stopThread() {
         running = false;
         resumeThread(); // In case thread is paused
+        interrupt(); // Cut short any sleep or wait in doAction
     }
 
     public void pauseThread() {
@@ -20,12 +39,29 @@ public abstract class GameThread extends Thread {
     }
 
     public void resumeThread() {
-        synchronized (pauseLock) {
+        pauseLock.lock();
+        try {
             paused = false;
-            pauseLock.notifyAll();
+            resumed.signalAll();
+        } finally {
+            pauseLock.unlock();
         }
     }
 
+    public void interrupt() {
+        Thread current = thread;
+        if (current != null) current.interrupt();
+    }
+
+    public void join() throws InterruptedException {
+        Thread current = thread;
+        if (current != null) current.join();
+    }
+
+    protected Thread getThread() {
+        return thread;
+    }
+
     public boolean isRunning() {
         return running;
     }
@@ -36,17 +72,18 @@ public abstract class GameThread extends Thread {
 
     @Override
     public void run() {
-        while (running) {
+        while (running && !Thread.currentThread().isInterrupted()) {
             // Check if thread should be paused
-            synchronized (pauseLock) {
-                if (paused) {
-                    try {
-                        pauseLock.wait();
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        return;
-                    }
+            pauseLock.lock();
+            try {
+                while (paused && running) {
+                    resumed.await();
                 }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                pauseLock.unlock();
             }
 
             // If still running, perform the thread-specific action
@@ -58,4 +95,4 @@ public abstract class GameThread extends Thread {
 
     // Abstract method to be implemented by subclasses
     protected abstract void doAction();
-}
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+package model.threads;
+
+import model.command.BoardCommand;
+import model.command.BoardCommandQueue;
+import model.engine.Steppable;
+
+import java.util.concurrent.locks.LockSupport;
+
+public class StepperThread extends GameThread {
+    private final Steppable steppable;
+    private final BoardCommandQueue commands;
+    private final BoardCommand stepCommand;
+    private volatile long stepDelay;
+    private volatile boolean stepped;
+
+    public StepperThread(Steppable steppable, BoardCommandQueue commands, long initialDelay) {
+        super();
+        this.steppable = steppable;
+        this.commands = commands;
+        this.stepDelay = initialDelay;
+        this.stepCommand = board -> {
+            stepDelay = steppable.step();
+            stepped = true;
+            LockSupport.unpark(getThread());
+        };
+    }
+
+    @Override
+    protected void doAction() {
+        try {
+            Thread.sleep(stepDelay);
+        } catch (InterruptedException e) {
+            // stopThread interrupts; leave without touching a queue nobody drains any more
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (!running) return;
+        stepped = false;
+        commands.submit(stepCommand);
+        // Wait for the writer so the next sleep uses the delay this step returned
+        while (!stepped && running) {
+            LockSupport.park(this);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package model.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least-recently-used cache of generated mazes, bounded by total bytes
+ * rather than entry count since one 4000x4000 maze outweighs thousands of
+ * small ones. Keys include the generator version so a rule change never
+ * serves a stale layout. Callers get a private copy of the cached grid.
+ */
+public class MazeCache {
+    private static final MazeCache SHARED = new MazeCache(64L << 20);
+
+    private final long maxBytes;
+    private final LinkedHashMap<Key, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public MazeCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public static MazeCache shared() {
+        return SHARED;
+    }
+
+    public byte[] get(int width, int height, long seed) {
+        Key key = new Key(width, height, seed, MazeGenerator.VERSION);
+        synchronized (this) {
+            byte[] maze = entries.get(key);
+            if (maze != null) {
+                hits++;
+                return maze.clone();
+            }
+            misses++;
+        }
+        // Generate outside the lock; two threads racing on one key just both generate.
+        byte[] maze = new MazeGenerator(width, height).generate(seed);
+        put(key, maze.clone());
+        return maze;
+    }
+
+    private synchronized void put(Key key, byte[] maze) {
+        if (maze.length > maxBytes) return;
+        byte[] previous = entries.put(key, maze);
+        if (previous != null) sizeBytes -= previous.length;
+        sizeBytes += maze.length;
+        Iterator<Map.Entry<Key, byte[]>> eldest = entries.entrySet().iterator();
+        while (sizeBytes > maxBytes && eldest.hasNext()) {
+            sizeBytes -= eldest.next().getValue().length;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        sizeBytes = 0;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public synchronized long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    private record Key(int width, int height, long seed, int version) {
+    }
+}
@@ -0,0 +1,17 @@
+package model.utils;
+
+/**
+ * A maze as written to disk: row-major tile codes plus the seed it was
+ * generated from, or -1 for hand-made levels.
+ */
+public record MazeData(int width, int height, long seed, byte[] tiles) {
+    public MazeData {
+        if (tiles.length != width * height) {
+            throw new IllegalArgumentException("Expected " + width * height + " tiles, got " + tiles.length);
+        }
+    }
+
+    public static MazeData generate(int width, int height, long seed) {
+        return new MazeData(width, height, seed, new MazeGenerator(width, height).generate(seed));
+    }
+}
@@ -0,0 +1,151 @@
+package model.utils;
+
+import model.BoardModel;
+import model.config.GameConstants;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Binary maze record, big-endian:
+ * <pre>
+ * int   magic "PMZ1"
+ * byte  format version
+ * byte  flags (bit 0: payload is deflated)
+ * short reserved
+ * int   width
+ * int   height
+ * long  seed
+ * int   payload length
+ * ...   payload: tiles packed two per byte, high nibble first
+ * </pre>
+ * Records are read from memory-mapped files and unpacked straight into the
+ * board's tile array.
+ */
+public final class MazeFile {
+    public static final int MAGIC = 0x504D5A31;
+    public static final int FORMAT_VERSION = 1;
+    public static final int FLAG_DEFLATE = 1;
+    static final int HEADER_BYTES = 28;
+    static final long MAX_CELLS = (long) GameConstants.MAX_BOARD_SIZE * GameConstants.MAX_BOARD_SIZE;
+
+    private MazeFile() {
+    }
+
+    public static void write(Path path, MazeData maze, boolean deflate) throws IOException {
+        ByteBuffer record = encode(maze, deflate);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (record.hasRemaining()) channel.write(record);
+        }
+    }
+
+    public static BoardModel load(Path path) throws IOException {
+        return decode(map(path));
+    }
+
+    public static MazeData read(Path path) throws IOException {
+        ByteBuffer record = map(path);
+        ByteBuffer packed = payload(record);
+        byte[] tiles = new byte[record.getInt(8) * record.getInt(12)];
+        for (int i = 0; i < tiles.length; i++) {
+            int b = packed.get(packed.position() + (i >> 1));
+            int tile = (i & 1) == 0 ? (b >>> 4) & 0xF : b & 0xF;
+            if (tile >= BoardModel.TILE_TYPES) throw new IOException("Corrupt maze file");
+            tiles[i] = (byte) tile;
+        }
+        return new MazeData(record.getInt(8), record.getInt(12), record.getLong(16), tiles);
+    }
+
+    static ByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    static ByteBuffer encode(MazeData maze, boolean deflate) {
+        byte[] tiles = maze.tiles();
+        byte[] packed = new byte[(tiles.length + 1) / 2];
+        for (int i = 0; i < tiles.length; i++) {
+            if ((tiles[i] & ~0xF) != 0) throw new IllegalArgumentException("Tile " + tiles[i] + " does not fit in 4 bits");
+            packed[i >> 1] |= (byte) ((i & 1) == 0 ? tiles[i] << 4 : tiles[i]);
+        }
+        int payloadLength = packed.length;
+        if (deflate) {
+            Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+            deflater.setInput(packed);
+            deflater.finish();
+            byte[] compressed = new byte[packed.length + 64];
+            payloadLength = 0;
+            while (!deflater.finished()) {
+                if (payloadLength == compressed.length) compressed = Arrays.copyOf(compressed, compressed.length * 2);
+                payloadLength += deflater.deflate(compressed, payloadLength, compressed.length - payloadLength);
+            }
+            deflater.end();
+            packed = compressed;
+        }
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + payloadLength);
+        record.putInt(MAGIC)
+                .put((byte) FORMAT_VERSION)
+                .put((byte) (deflate ? FLAG_DEFLATE : 0))
+                .putShort((short) 0)
+                .putInt(maze.width())
+                .putInt(maze.height())
+                .putLong(maze.seed())
+                .putInt(payloadLength)
+                .put(packed, 0, payloadLength);
+        return record.flip();
+    }
+
+    static BoardModel decode(ByteBuffer record) throws IOException {
+        ByteBuffer packed = payload(record);
+        int width = record.getInt(record.position() + 8);
+        int height = record.getInt(record.position() + 12);
+        if (width != height) throw new IOException("Board must be square, maze is " + width + "x" + height);
+        BoardModel board = new BoardModel(width);
+        board.loadPacked(packed);
+        return board;
+    }
+
+    // The packed tiles of a record: a slice of the mapped file, or an inflated copy when deflated.
+    // Checks the whole header, dimensions included, so callers can size arrays from it afterwards.
+    private static ByteBuffer payload(ByteBuffer record) throws IOException {
+        int base = record.position();
+        if (record.remaining() < HEADER_BYTES || record.getInt(base) != MAGIC) throw new IOException("Not a maze file");
+        if (record.get(base + 4) != FORMAT_VERSION) throw new IOException("Unsupported maze format " + record.get(base + 4));
+        int flags = record.get(base + 5);
+        int width = record.getInt(base + 8);
+        int height = record.getInt(base + 12);
+        long cells = (long) width * height;
+        if (width <= 0 || height <= 0 || cells > MAX_CELLS) throw new IOException("Bad maze size " + width + "x" + height);
+        int payloadLength = record.getInt(base + 24);
+        if (payloadLength < 0 || payloadLength > record.remaining() - HEADER_BYTES) throw new IOException("Truncated maze file");
+        ByteBuffer payload = record.slice(base + HEADER_BYTES, payloadLength);
+        int packedLength = (int) ((cells + 1) / 2);
+        if ((flags & FLAG_DEFLATE) == 0) {
+            if (payloadLength < packedLength) throw new IOException("Truncated maze file");
+            return payload;
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(payload);
+            ByteBuffer packed = ByteBuffer.allocate(packedLength);
+            while (packed.hasRemaining() && !inflater.finished()) {
+                if (inflater.inflate(packed) == 0 && inflater.needsInput()) throw new IOException("Truncated maze file");
+            }
+            if (packed.hasRemaining()) throw new IOException("Truncated maze file");
+            return packed.flip();
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt maze file", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -1,15 +1,22 @@
 package model.utils;
 
-import java.util.Random;
-import java.util.Stack;
-import java.util.List;
-import java.util.ArrayList;
+import model.config.GameConstants;
 
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+/**
+ * Generates mazes into a flat row-major byte grid. Generation allocates the
+ * grid and a few primitive work arrays up front and nothing per step, so it
+ * scales to boards of several thousand cells per side.
+ */
 public class MazeGenerator {
-    private int[][] maze;
-    private int width;
-    private int height;
-    private Random random;
+    private final byte[] maze;
+    private final int width;
+    private final int height;
+    private RandomGenerator random;
 
     public static final int WALL = 1;
     public static final int PATH = 0;
@@ -18,130 +25,347 @@ public class MazeGenerator {
     public static final int GHOST = 4;
     public static final int POWERUP = 5;
 
+    // Bump whenever a change to the rules would give a different maze for the same seed.
+    public static final int VERSION = 3;
+
+    private static final int POISSON_ATTEMPTS = 30;
+    private static final int TILE_LATTICE = 128;
+    private static final int ROW_CHUNK = 256;
+
     public MazeGenerator(int width, int height) {
+        this(width, height, new SplittableRandom());
+    }
+
+    public MazeGenerator(int width, int height, RandomGenerator random) {
         this.width = width;
         this.height = height;
-        this.random = new Random();
-        this.maze = new int[height][width];
+        this.random = random;
+        this.maze = new byte[width * height];
     }
 
     public int[][] generate() {
-        for (int i = 0; i < height; i++) {
-            for (int j = 0; j < width; j++) {
-                maze[i][j] = WALL;
+        byte[] flat = generateFlat();
+        int[][] grid = new int[height][width];
+        for (int y = 0; y < height; y++) {
+            int base = y * width;
+            for (int x = 0; x < width; x++) {
+                grid[y][x] = flat[base + x];
             }
         }
-        recursiveBacktracking();
-        addMorePaths();
-        addDots();
+        return grid;
+    }
+
+    /**
+     * Reproducible generation: the same size and seed always give the same
+     * maze for a given VERSION. Large boards use the tiled generator.
+     */
+    public byte[] generate(long seed) {
+        random = new SplittableRandom(seed);
+        return width >= GameConstants.TILED_MAZE_SIZE ? generateTiled() : generateFlat();
+    }
+
+    public byte[] generateFlat() {
+        Arrays.fill(maze, (byte) WALL);
+        carve(0, latticeHeight(), 0, latticeWidth(), random);
+        addRandomPaths(1, height - 1, 1, width - 1, random);
+        addCrossPaths();
+        closeIsolatedCells(1, height - 1);
+        addDots(1, height - 1);
         addPowerPellets();
         createGhostSpawnWithExit();
         setStartingPosition();
         return maze;
     }
 
-    private void recursiveBacktracking() {
-        Stack<int[]> stack = new Stack<>();
-        int[] start = {1, 1};
-        stack.push(start);
-        maze[start[0]][start[1]] = PATH;
-        int[][] directions = {{-2, 0}, {0, 2}, {2, 0}, {0, -2}};
-        while (!stack.isEmpty()) {
-            int[] current = stack.peek();
-            int currentY = current[0];
-            int currentX = current[1];
-            List<int[]> unvisitedNeighbors = new ArrayList<>();
-            for (int[] dir : directions) {
-                int newY = currentY + dir[0];
-                int newX = currentX + dir[1];
-                if (newY > 0 && newY < height - 1 && newX > 0 && newX < width - 1 && maze[newY][newX] == WALL) {
-                    unvisitedNeighbors.add(new int[]{newY, newX});
+    /**
+     * Same rules as generateFlat(), but the board is split into square tiles
+     * that are carved concurrently, each with its own generator seeded from
+     * this one. Tiles are then joined by a spanning tree over their borders,
+     * so the result is connected and depends only on the seed, not on how
+     * many cores ran it.
+     */
+    public byte[] generateTiled() {
+        Arrays.fill(maze, (byte) WALL);
+        int tileRows = (latticeHeight() + TILE_LATTICE - 1) / TILE_LATTICE;
+        int tileCols = (latticeWidth() + TILE_LATTICE - 1) / TILE_LATTICE;
+        long[] seeds = new long[tileRows * tileCols];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = random.nextLong();
+        }
+
+        IntStream.range(0, seeds.length).parallel().forEach(tile -> {
+            int ly0 = (tile / tileCols) * TILE_LATTICE;
+            int lx0 = (tile % tileCols) * TILE_LATTICE;
+            int ly1 = Math.min(ly0 + TILE_LATTICE, latticeHeight());
+            int lx1 = Math.min(lx0 + TILE_LATTICE, latticeWidth());
+            SplittableRandom tileRandom = new SplittableRandom(seeds[tile]);
+            carve(ly0, ly1, lx0, lx1, tileRandom);
+            // Each tile also owns the wall row and column on its lower and right border.
+            addRandomPaths(2 * ly0 + 1, ly1 == latticeHeight() ? height - 1 : 2 * ly1 + 1,
+                    2 * lx0 + 1, lx1 == latticeWidth() ? width - 1 : 2 * lx1 + 1, tileRandom);
+        });
+        stitchTiles(tileRows, tileCols);
+        addCrossPaths();
+
+        int chunks = Math.max(1, (height - 2 + ROW_CHUNK - 1) / ROW_CHUNK);
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int y0 = 1 + chunk * ROW_CHUNK;
+            closeIsolatedCells(y0, Math.min(y0 + ROW_CHUNK, height - 1));
+        });
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int y0 = 1 + chunk * ROW_CHUNK;
+            addDots(y0, Math.min(y0 + ROW_CHUNK, height - 1));
+        });
+        addPowerPellets();
+        createGhostSpawnWithExit();
+        setStartingPosition();
+        return maze;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    // Carving cells sit on odd coordinates: lattice cell (ly, lx) is grid cell (2 * ly + 1, 2 * lx + 1).
+    private int latticeHeight() {
+        return (height - 1) / 2;
+    }
+
+    private int latticeWidth() {
+        return (width - 1) / 2;
+    }
+
+    private void carve(int ly0, int ly1, int lx0, int lx1, RandomGenerator random) {
+        if (ly0 >= ly1 || lx0 >= lx1) return;
+        int[] stack = new int[(ly1 - ly0) * (lx1 - lx0) + 1];
+        int[] neighbors = new int[4];
+        int[] steps = {-2 * width, 2, 2 * width, -2};
+        int top = 0;
+        int start = (2 * ly0 + 1) * width + 2 * lx0 + 1;
+        stack[top++] = start;
+        maze[start] = PATH;
+        while (top > 0) {
+            int current = stack[top - 1];
+            int ly = current / width / 2;
+            int lx = current % width / 2;
+            int count = 0;
+            if (ly - 1 >= ly0 && maze[current + steps[0]] == WALL) neighbors[count++] = steps[0];
+            if (lx + 1 < lx1 && maze[current + steps[1]] == WALL) neighbors[count++] = steps[1];
+            if (ly + 1 < ly1 && maze[current + steps[2]] == WALL) neighbors[count++] = steps[2];
+            if (lx - 1 >= lx0 && maze[current + steps[3]] == WALL) neighbors[count++] = steps[3];
+            if (count > 0) {
+                int step = neighbors[random.nextInt(count)];
+                int next = current + step;
+                maze[current + step / 2] = PATH;
+                maze[next] = PATH;
+                stack[top++] = next;
+            } else {
+                top--;
+            }
+        }
+    }
+
+    // Kruskal over the tile adjacency graph: every border gets one candidate opening, in random order.
+    private void stitchTiles(int tileRows, int tileCols) {
+        int tiles = tileRows * tileCols;
+        int[] openings = new int[2 * tiles];
+        int[] fromTile = new int[2 * tiles];
+        int[] toTile = new int[2 * tiles];
+        int edges = 0;
+        for (int ty = 0; ty < tileRows; ty++) {
+            int ly0 = ty * TILE_LATTICE;
+            int ly1 = Math.min(ly0 + TILE_LATTICE, latticeHeight());
+            for (int tx = 0; tx < tileCols; tx++) {
+                int lx0 = tx * TILE_LATTICE;
+                int lx1 = Math.min(lx0 + TILE_LATTICE, latticeWidth());
+                int tile = ty * tileCols + tx;
+                if (tx + 1 < tileCols) {
+                    int ly = ly0 + random.nextInt(ly1 - ly0);
+                    openings[edges] = (2 * ly + 1) * width + 2 * lx1;
+                    fromTile[edges] = tile;
+                    toTile[edges++] = tile + 1;
+                }
+                if (ty + 1 < tileRows) {
+                    int lx = lx0 + random.nextInt(lx1 - lx0);
+                    openings[edges] = 2 * ly1 * width + 2 * lx + 1;
+                    fromTile[edges] = tile;
+                    toTile[edges++] = tile + tileCols;
                 }
             }
-            if (!unvisitedNeighbors.isEmpty()) {
-                int[] next = unvisitedNeighbors.get(random.nextInt(unvisitedNeighbors.size()));
-                int nextY = next[0];
-                int nextX = next[1];
-                maze[currentY + (nextY - currentY) / 2][currentX + (nextX - currentX) / 2] = PATH;
-                maze[nextY][nextX] = PATH;
-                stack.push(next);
-            } else {
-                stack.pop();
+        }
+        int[] parent = new int[tiles];
+        for (int i = 0; i < tiles; i++) {
+            parent[i] = i;
+        }
+        for (int i = edges - 1; i >= 0; i--) {
+            int pick = random.nextInt(i + 1);
+            int a = find(parent, fromTile[pick]);
+            int b = find(parent, toTile[pick]);
+            if (a != b) {
+                parent[a] = b;
+                maze[openings[pick]] = PATH;
             }
+            openings[pick] = openings[i];
+            fromTile[pick] = fromTile[i];
+            toTile[pick] = toTile[i];
         }
     }
 
-    private void addMorePaths() {
-        int pathsToAdd = (width * height) / 8;
+    private static int find(int[] parent, int node) {
+        while (parent[node] != node) {
+            parent[node] = parent[parent[node]];
+            node = parent[node];
+        }
+        return node;
+    }
+
+    private void addRandomPaths(int y0, int y1, int x0, int x1, RandomGenerator random) {
+        if (y0 >= y1 || x0 >= x1) return;
+        int pathsToAdd = ((y1 - y0) * (x1 - x0)) / 8;
         for (int i = 0; i < pathsToAdd; i++) {
-            int y = random.nextInt(height - 2) + 1;
-            int x = random.nextInt(width - 2) + 1;
-            if (maze[y][x] == WALL) {
-                maze[y][x] = PATH;
-            }
+            int y = y0 + random.nextInt(y1 - y0);
+            int x = x0 + random.nextInt(x1 - x0);
+            maze[y * width + x] = PATH;
         }
-        for (int y = height / 4; y < height; y += height / 3) {
+    }
+
+    private void addCrossPaths() {
+        for (int y = height / 4; y < height - 1; y += height / 3) {
+            int base = y * width;
             for (int x = 1; x < width - 1; x++) {
                 if (random.nextInt(100) < 70) {
-                    maze[y][x] = PATH;
+                    maze[base + x] = PATH;
                 }
             }
         }
-        for (int x = width / 4; x < width; x += width / 3) {
+        for (int x = width / 4; x < width - 1; x += width / 3) {
             for (int y = 1; y < height - 1; y++) {
                 if (random.nextInt(100) < 70) {
-                    maze[y][x] = PATH;
+                    maze[y * width + x] = PATH;
                 }
             }
         }
     }
 
-    private void addDots() {
-        for (int y = 1; y < height - 1; y++) {
+    // Only even/even cells can end up walled in on all four sides; the rest always touch the carved lattice.
+    private void closeIsolatedCells(int y0, int y1) {
+        for (int y = Math.max(2, y0 + (y0 & 1)); y < y1 && y < height - 1; y += 2) {
+            int base = y * width;
+            for (int x = 2; x < width - 1; x += 2) {
+                int cell = base + x;
+                if (maze[cell] != WALL && maze[cell - 1] == WALL && maze[cell + 1] == WALL
+                        && maze[cell - width] == WALL && maze[cell + width] == WALL) {
+                    maze[cell] = WALL;
+                }
+            }
+        }
+    }
+
+    private void addDots(int y0, int y1) {
+        for (int y = y0; y < y1; y++) {
+            int base = y * width;
             for (int x = 1; x < width - 1; x++) {
-                if (maze[y][x] == PATH) {
-                    maze[y][x] = DOT;
+                if (maze[base + x] == PATH) {
+                    maze[base + x] = DOT;
                 }
             }
         }
     }
 
+    /**
+     * Bridson-style Poisson-disk sampling in the Manhattan metric. The
+     * acceleration grid uses cells of half the spacing, so a cell holds at
+     * most one pellet and a candidate only needs to check the 5x5 block of
+     * cells around it.
+     */
     private void addPowerPellets() {
         int pelletsToAdd = Math.max(4, width / 20);
-        if (maze[2][2] == DOT) maze[2][2] = POWERUP;
-        if (maze[2][width - 3] == DOT) maze[2][width - 3] = POWERUP;
-        if (maze[height - 3][2] == DOT) maze[height - 3][2] = POWERUP;
-        if (maze[height - 3][width - 3] == DOT) maze[height - 3][width - 3] = POWERUP;
-        for (int i = 4; i < pelletsToAdd; i++) {
-            int attempts = 0;
-            boolean placed = false;
-            while (!placed && attempts < 100) {
-                int y = random.nextInt(height - 4) + 2;
-                int x = random.nextInt(width - 4) + 2;
-                if (maze[y][x] == DOT) {
-                    boolean tooClose = false;
-                    for (int cy = 0; cy < height; cy++) {
-                        for (int cx = 0; cx < width; cx++) {
-                            if (maze[cy][cx] == POWERUP) {
-                                int distance = Math.abs(cy - y) + Math.abs(cx - x);
-                                if (distance < Math.min(width, height) / 4) {
-                                    tooClose = true;
-                                    break;
-                                }
-                            }
-                        }
-                        if (tooClose) break;
-                    }
-                    if (!tooClose) {
-                        maze[y][x] = POWERUP;
-                        placed = true;
-                    }
+        int minDistance = Math.max(1, Math.min(width, height) / 4);
+        int cellSize = Math.max(1, minDistance / 2);
+        int gridWidth = (width + cellSize - 1) / cellSize;
+        int gridHeight = (height + cellSize - 1) / cellSize;
+        int[] grid = new int[gridWidth * gridHeight];
+        int[] active = new int[pelletsToAdd];
+        int activeCount = 0;
+        int placed = 0;
+
+        int[] corners = {2 * width + 2, 2 * width + width - 3, (height - 3) * width + 2, (height - 3) * width + width - 3};
+        for (int corner : corners) {
+            if (placed < pelletsToAdd && maze[corner] == DOT) {
+                maze[corner] = POWERUP;
+                grid[gridCell(corner, cellSize, gridWidth)] = corner + 1;
+                active[activeCount++] = corner;
+                placed++;
+            }
+        }
+        if (activeCount == 0) {
+            for (int attempts = 0; attempts < 100; attempts++) {
+                int index = (random.nextInt(height - 4) + 2) * width + random.nextInt(width - 4) + 2;
+                if (maze[index] == DOT) {
+                    maze[index] = POWERUP;
+                    grid[gridCell(index, cellSize, gridWidth)] = index + 1;
+                    active[activeCount++] = index;
+                    placed++;
+                    break;
+                }
+            }
+        }
+
+        while (activeCount > 0 && placed < pelletsToAdd) {
+            int slot = random.nextInt(activeCount);
+            int origin = active[slot];
+            int originY = origin / width;
+            int originX = origin - originY * width;
+            boolean found = false;
+            for (int attempt = 0; attempt < POISSON_ATTEMPTS; attempt++) {
+                int radius = minDistance + random.nextInt(minDistance);
+                int dy = random.nextInt(2 * radius + 1) - radius;
+                int dx = (radius - Math.abs(dy)) * (random.nextBoolean() ? 1 : -1);
+                int y = originY + dy;
+                int x = originX + dx;
+                if (y < 2 || y > height - 3 || x < 2 || x > width - 3) continue;
+                int index = y * width + x;
+                if (maze[index] != DOT || hasPelletWithin(grid, gridWidth, gridHeight, cellSize, y, x, minDistance)) {
+                    continue;
                 }
-                attempts++;
+                maze[index] = POWERUP;
+                grid[gridCell(index, cellSize, gridWidth)] = index + 1;
+                active[activeCount++] = index;
+                placed++;
+                found = true;
+                break;
+            }
+            if (!found) {
+                active[slot] = active[--activeCount];
             }
         }
     }
 
+    private int gridCell(int index, int cellSize, int gridWidth) {
+        int y = index / width;
+        int x = index - y * width;
+        return (y / cellSize) * gridWidth + x / cellSize;
+    }
+
+    private boolean hasPelletWithin(int[] grid, int gridWidth, int gridHeight, int cellSize, int y, int x, int minDistance) {
+        int gy = y / cellSize;
+        int gx = x / cellSize;
+        for (int cy = Math.max(0, gy - 2); cy <= Math.min(gridHeight - 1, gy + 2); cy++) {
+            for (int cx = Math.max(0, gx - 2); cx <= Math.min(gridWidth - 1, gx + 2); cx++) {
+                int pellet = grid[cy * gridWidth + cx] - 1;
+                if (pellet < 0) continue;
+                int py = pellet / width;
+                int px = pellet - py * width;
+                if (Math.abs(py - y) + Math.abs(px - x) < minDistance) return true;
+            }
+        }
+        return false;
+    }
+
     private void createGhostSpawnWithExit() {
         int centerY = height / 2;
         int centerX = width / 2;
@@ -149,96 +373,44 @@ public class MazeGenerator {
         for (int y = centerY - spawnSize / 2; y <= centerY + spawnSize / 2; y++) {
             for (int x = centerX - spawnSize / 2; x <= centerX + spawnSize / 2; x++) {
                 if (y > 0 && y < height - 1 && x > 0 && x < width - 1) {
-                    maze[y][x] = PATH;
+                    maze[y * width + x] = PATH;
                 }
             }
         }
-        maze[centerY][centerX] = GHOST;
+        maze[centerY * width + centerX] = GHOST;
         for (int y = centerY - spawnSize / 2; y >= 1; y--) {
-            maze[y][centerX] = DOT;
+            maze[y * width + centerX] = DOT;
         }
         for (int y = centerY + spawnSize / 2; y < height - 1; y++) {
-            maze[y][centerX] = DOT;
+            maze[y * width + centerX] = DOT;
         }
+        int base = centerY * width;
         for (int x = centerX - spawnSize / 2; x >= 1; x--) {
-            maze[centerY][x] = DOT;
+            maze[base + x] = DOT;
         }
         for (int x = centerX + spawnSize / 2; x < width - 1; x++) {
-            maze[centerY][x] = DOT;
+            maze[base + x] = DOT;
         }
     }
 
     private void setStartingPosition() {
-        int pacmanY = -1;
-        int pacmanX = -1;
-        int ghostY = -1;
-        int ghostX = -1;
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                if (maze[y][x] == GHOST) {
-                    ghostY = y;
-                    ghostX = x;
-                    break;
-                }
-            }
-            if (ghostY >= 0) break;
-        }
+        int ghostY = height / 2;
+        int ghostX = width / 2;
+        int pacman = -1;
         int maxDistance = 0;
         for (int y = 1; y < height - 1; y++) {
+            int base = y * width;
             for (int x = 1; x < width - 1; x++) {
-                if (maze[y][x] == DOT || maze[y][x] == POWERUP) {
+                int tile = maze[base + x];
+                if (tile == DOT || tile == POWERUP) {
                     int distance = Math.abs(y - ghostY) + Math.abs(x - ghostX);
                     if (distance > maxDistance) {
                         maxDistance = distance;
-                        pacmanY = y;
-                        pacmanX = x;
+                        pacman = base + x;
                     }
                 }
             }
         }
-        if (pacmanY >= 0 && pacmanX >= 0) {
-            maze[pacmanY][pacmanX] = PACMAN;
-        } else {
-            maze[1][1] = PACMAN;
-        }
-    }
-
-    private void breakThickWalls() {
-        boolean foundThickWall;
-        do {
-            foundThickWall = false;
-            for (int y = 1; y < height - 1; y++) {
-                for (int x = 1; x < width - 2; x++) {
-                    if (maze[y][x] == WALL && maze[y][x + 1] == WALL) {
-                        int count = 0;
-                        while (x + count < width - 1 && maze[y][x + count] == WALL) {
-                            count++;
-                        }
-                        if (count > 1) {
-                            for (int i = 1; i < count; i += 2) {
-                                maze[y][x + i] = PATH;
-                            }
-                            foundThickWall = true;
-                        }
-                    }
-                }
-            }
-            for (int x = 1; x < width - 1; x++) {
-                for (int y = 1; y < height - 2; y++) {
-                    if (maze[y][x] == WALL && maze[y + 1][x] == WALL) {
-                        int count = 0;
-                        while (y + count < height - 1 && maze[y + count][x] == WALL) {
-                            count++;
-                        }
-                        if (count > 1) {
-                            for (int i = 1; i < count; i += 2) {
-                                maze[y + i][x] = PATH;
-                            }
-                            foundThickWall = true;
-                        }
-                    }
-                }
-            }
-        } while (foundThickWall);
+        maze[pacman >= 0 ? pacman : width + 1] = PACMAN;
     }
 }
@@ -0,0 +1,72 @@
+package model.utils;
+
+import model.BoardModel;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Many maze records in one file, big-endian:
+ * <pre>
+ * int   magic "PMZP"
+ * int   level count
+ * long  offset of each level's record, from the start of the file
+ * ...   MazeFile records
+ * </pre>
+ * The whole pack is mapped once; loading a level decodes only its record.
+ */
+public class MazePack {
+    public static final int MAGIC = 0x504D5A50;
+
+    private final ByteBuffer mapped;
+    private final int levelCount;
+
+    private MazePack(ByteBuffer mapped) throws IOException {
+        if (mapped.remaining() < 8 || mapped.getInt(0) != MAGIC) throw new IOException("Not a maze pack");
+        this.mapped = mapped;
+        this.levelCount = mapped.getInt(4);
+        if (levelCount < 0 || 8L + 8L * levelCount > mapped.limit()) throw new IOException("Truncated maze pack");
+    }
+
+    public static MazePack open(Path path) throws IOException {
+        return new MazePack(MazeFile.map(path));
+    }
+
+    public static void write(Path path, List<MazeData> levels, boolean deflate) throws IOException {
+        ByteBuffer[] records = new ByteBuffer[levels.size()];
+        ByteBuffer index = ByteBuffer.allocate(8 + 8 * records.length);
+        index.putInt(MAGIC).putInt(records.length);
+        long offset = index.capacity();
+        for (int i = 0; i < records.length; i++) {
+            records[i] = MazeFile.encode(levels.get(i), deflate);
+            index.putLong(offset);
+            offset += records[i].remaining();
+        }
+        index.flip();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (index.hasRemaining()) channel.write(index);
+            for (ByteBuffer record : records) {
+                while (record.hasRemaining()) channel.write(record);
+            }
+        }
+    }
+
+    public int getLevelCount() {
+        return levelCount;
+    }
+
+    public BoardModel load(int level) throws IOException {
+        if (level < 0 || level >= levelCount) {
+            throw new IndexOutOfBoundsException("Level " + level + " of " + levelCount);
+        }
+        long start = mapped.getLong(8 + 8 * level);
+        long end = level + 1 < levelCount ? mapped.getLong(16 + 8 * level) : mapped.limit();
+        if (start < 0 || end > mapped.limit() || start > end) throw new IOException("Corrupt maze pack index");
+        return MazeFile.decode(mapped.slice((int) start, (int) (end - start)));
+    }
+}
@@ -1,6 +1,9 @@
 package model.utils;
 
-import javax.swing.*;
+import model.BoardModel;
+import model.entity.Direction;
+import model.entity.GhostType;
+
 import java.awt.*;
 import java.awt.geom.AffineTransform;
 import java.awt.image.AffineTransformOp;
@@ -12,12 +15,35 @@ import java.util.Map;
 import javax.imageio.ImageIO;
 
 public class ResourceManager {
+    public static final int NO_SPRITE = -1;
+    public static final int SPRITE_WALL = 0;
+    public static final int SPRITE_DOT = 1;
+    public static final int SPRITE_POWERUP = 2;
+    public static final int SPRITE_PACMAN = 3;
+    public static final int SPRITE_GHOST_RED = 4;
+    public static final int SPRITE_GHOST_BLUE = 5;
+    public static final int SPRITE_GHOST_GREEN = 6;
+    public static final int SPRITE_GHOST_YELLOW = 7;
+    public static final int SPRITE_BOOST_HEALTH = 8;
+    public static final int SPRITE_BOOST_THUNDER = 9;
+    public static final int SPRITE_BOOST_ICE = 10;
+    public static final int SPRITE_BOOST_POISON = 11;
+    public static final int SPRITE_BOOST_SHIELD = 12;
+    public static final int SPRITE_COUNT = 13;
+    private static final int[] SPRITE_FRAMES = {1, 1, 1, 3, 2, 2, 2, 2, 1, 1, 1, 1, 1};
+    private static final long SPRITE_CACHE_BYTES = 16L << 20;
+
     private static ResourceManager instance;
     private Map<String, Image> images;
+    private final Image placeholder = createPlaceholderImage("default");
+    private final SpriteCache sprites = new SpriteCache(SPRITE_CACHE_BYTES);
+    private final int[] spriteBase = new int[SPRITE_COUNT];
+    private Image[] spriteSources;
 
     private ResourceManager() {
         images = new HashMap<>();
         loadImages();
+        buildSpriteSources();
     }
 
     public static ResourceManager getInstance() {
@@ -136,75 +162,103 @@ public class ResourceManager {
     }
 
     public Image getImage(String name) {
-        return images.getOrDefault(name, createPlaceholderImage("default"));
+        Image image = images.get(name);
+        return (image != null) ? image : placeholder;
     }
 
-    public Image getScaledImage(String name, int width, int height) {
-        Image original = getImage(name);
-        return original.getScaledInstance(width, height, Image.SCALE_SMOOTH);
+    public int tileSprite(int tileType) {
+        return switch (tileType) {
+            case BoardModel.WALL -> SPRITE_WALL;
+            case BoardModel.DOT -> SPRITE_DOT;
+            case BoardModel.BIG_DOT -> SPRITE_POWERUP;
+            case BoardModel.BOOST_HEALTH -> SPRITE_BOOST_HEALTH;
+            case BoardModel.BOOST_THUNDER -> SPRITE_BOOST_THUNDER;
+            case BoardModel.BOOST_ICE -> SPRITE_BOOST_ICE;
+            case BoardModel.BOOST_POISON -> SPRITE_BOOST_POISON;
+            case BoardModel.BOOST_SHIELD -> SPRITE_BOOST_SHIELD;
+            default -> NO_SPRITE;
+        };
     }
 
-    public Image getRotatedImage(String name, int degrees) {
-        Image original = getImage(name);
-        BufferedImage bufferedOriginal;
-        if (original instanceof BufferedImage) {
-            bufferedOriginal = (BufferedImage) original;
-        } else {
-            bufferedOriginal = new BufferedImage(original.getWidth(null), original.getHeight(null), BufferedImage.TYPE_INT_ARGB);
-            Graphics2D g = bufferedOriginal.createGraphics();
-            g.drawImage(original, 0, 0, null);
-            g.dispose();
-        }
-        double radians = Math.toRadians(degrees);
-        AffineTransform transform = new AffineTransform();
-        transform.rotate(radians, bufferedOriginal.getWidth() / 2.0, bufferedOriginal.getHeight() / 2.0);
-        AffineTransformOp op = new AffineTransformOp(transform, AffineTransformOp.TYPE_BILINEAR);
-        return op.filter(bufferedOriginal, null);
+    public int ghostSprite(GhostType type) {
+        return switch (type) {
+            case BLINKY -> SPRITE_GHOST_RED;
+            case INKY -> SPRITE_GHOST_BLUE;
+            case PINKY -> SPRITE_GHOST_YELLOW;
+            case CLYDE -> SPRITE_GHOST_GREEN;
+        };
     }
 
-    public Image getFlippedImage(String name, boolean horizontally, boolean vertically) {
-        Image original = getImage(name);
-        BufferedImage bufferedOriginal;
-        if (original instanceof BufferedImage) {
-            bufferedOriginal = (BufferedImage) original;
-        } else {
-            bufferedOriginal = new BufferedImage(original.getWidth(null), original.getHeight(null), BufferedImage.TYPE_INT_ARGB);
-            Graphics2D g = bufferedOriginal.createGraphics();
-            g.drawImage(original, 0, 0, null);
-            g.dispose();
-        }
+    // Resolve once and keep the int; frames wrap and an unused direction is ignored.
+    public int handle(int sprite, int direction, int frame) {
+        int frames = SPRITE_FRAMES[sprite];
+        int directions = (sprite == SPRITE_PACMAN) ? Direction.COUNT : 1;
+        return spriteBase[sprite] + Math.floorMod(direction, directions) * frames + Math.floorMod(frame, frames);
+    }
+
+    public Image getSprite(int handle, int size) {
+        return sprites.get(handle, size, spriteSources[handle]);
+    }
+
+    public SpriteCache getSpriteCache() {
+        return sprites;
+    }
+
+    private BufferedImage toBuffered(Image original) {
+        if (original instanceof BufferedImage buffered) return buffered;
+        BufferedImage buffered = new BufferedImage(original.getWidth(null), original.getHeight(null), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = buffered.createGraphics();
+        g.drawImage(original, 0, 0, null);
+        g.dispose();
+        return buffered;
+    }
+
+    private Image rotate(Image original, int degrees) {
+        BufferedImage bufferedOriginal = toBuffered(original);
         AffineTransform transform = new AffineTransform();
-        if (horizontally) {
-            transform.concatenate(AffineTransform.getScaleInstance(-1, 1));
-            transform.concatenate(AffineTransform.getTranslateInstance(-bufferedOriginal.getWidth(), 0));
-        }
-        if (vertically) {
-            transform.concatenate(AffineTransform.getScaleInstance(1, -1));
-            transform.concatenate(AffineTransform.getTranslateInstance(0, -bufferedOriginal.getHeight()));
-        }
-        AffineTransformOp op = new AffineTransformOp(transform, AffineTransformOp.TYPE_BILINEAR);
-        return op.filter(bufferedOriginal, null);
+        transform.rotate(Math.toRadians(degrees), bufferedOriginal.getWidth() / 2.0, bufferedOriginal.getHeight() / 2.0);
+        return new AffineTransformOp(transform, AffineTransformOp.TYPE_BILINEAR).filter(bufferedOriginal, null);
+    }
+
+    private Image flipHorizontally(Image original) {
+        BufferedImage bufferedOriginal = toBuffered(original);
+        AffineTransform transform = AffineTransform.getScaleInstance(-1, 1);
+        transform.translate(-bufferedOriginal.getWidth(), 0);
+        return new AffineTransformOp(transform, AffineTransformOp.TYPE_BILINEAR).filter(bufferedOriginal, null);
     }
 
-    public Image getPacmanImage(int direction, int frame) {
-        String baseName = "pacman_" + (frame % 3 + 1);
-        Image baseImage = getImage(baseName);
+    private Image pacmanImage(int direction, int frame) {
+        Image baseImage = getImage("pacman_" + (frame + 1));
         return switch (direction) {
-            case 0 -> baseImage;
-            case 1 -> getRotatedImage(baseName, 90);
-            case 2 -> getFlippedImage(baseName, true, false);
-            case 3 -> getRotatedImage(baseName, 270);
+            case Direction.DOWN -> rotate(baseImage, 90);
+            case Direction.LEFT -> flipHorizontally(baseImage);
+            case Direction.UP -> rotate(baseImage, 270);
             default -> baseImage;
         };
     }
 
-    public Image getScaledPacmanImage(int direction, int frame, int width, int height) {
-        Image pacmanImage = getPacmanImage(direction, frame);
-        return pacmanImage.getScaledInstance(width, height, Image.SCALE_SMOOTH);
-    }
-
-    public ImageIcon getScaledBoostIcon(String name, int size) {
-        Image img = getImage(name);
-        return new ImageIcon(img.getScaledInstance(size, size, Image.SCALE_SMOOTH));
+    // Every rotation and flip is done here, once, rather than per paint.
+    private void buildSpriteSources() {
+        String[] names = {"wall", "dot", "powerup", "pacman", "enemy_red", "enemy_blue", "enemy_green", "enemy_yellow",
+                "boostHealth", "boostThunder", "boostIce", "boostPoison", "boostShield"};
+        int total = 0;
+        for (int sprite = 0; sprite < SPRITE_COUNT; sprite++) {
+            spriteBase[sprite] = total;
+            total += SPRITE_FRAMES[sprite] * (sprite == SPRITE_PACMAN ? Direction.COUNT : 1);
+        }
+        spriteSources = new Image[total];
+        for (int sprite = 0; sprite < SPRITE_COUNT; sprite++) {
+            for (int frame = 0; frame < SPRITE_FRAMES[sprite]; frame++) {
+                if (sprite == SPRITE_PACMAN) {
+                    for (int direction = 0; direction < Direction.COUNT; direction++) {
+                        spriteSources[handle(sprite, direction, frame)] = pacmanImage(direction, frame);
+                    }
+                } else if (SPRITE_FRAMES[sprite] > 1) {
+                    spriteSources[handle(sprite, 0, frame)] = getImage(names[sprite] + "_" + (frame + 1));
+                } else {
+                    spriteSources[handle(sprite, 0, frame)] = getImage(names[sprite]);
+                }
+            }
+        }
     }
 }
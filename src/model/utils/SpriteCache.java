@@ -0,0 +1,98 @@
+package model.utils;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least-recently-used cache of sprites already scaled to a cell size, in
+ * the screen's compatible format so drawing one is a plain blit. Bounded by
+ * pixel bytes: resizing through many cell sizes evicts the sizes no longer
+ * on screen.
+ */
+public class SpriteCache {
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private final long maxBytes;
+    private final LinkedHashMap<Long, BufferedImage> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long sizeBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public SpriteCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public synchronized BufferedImage get(int handle, int size, Image source) {
+        Long key = ((long) handle << 32) | size;
+        BufferedImage sprite = entries.get(key);
+        if (sprite != null) {
+            hits++;
+            return sprite;
+        }
+        misses++;
+        sprite = scale(source, size);
+        long bytes = bytes(sprite);
+        if (bytes > maxBytes) return sprite;
+        entries.put(key, sprite);
+        sizeBytes += bytes;
+        Iterator<Map.Entry<Long, BufferedImage>> eldest = entries.entrySet().iterator();
+        while (sizeBytes > maxBytes && eldest.hasNext()) {
+            sizeBytes -= bytes(eldest.next().getValue());
+            eldest.remove();
+            evictions++;
+        }
+        return sprite;
+    }
+
+    private static BufferedImage scale(Image source, int size) {
+        BufferedImage sprite;
+        if (GraphicsEnvironment.isHeadless()) {
+            sprite = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        } else {
+            sprite = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                    .getDefaultConfiguration().createCompatibleImage(size, size, Transparency.TRANSLUCENT);
+        }
+        Graphics2D g = sprite.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(source, 0, 0, size, size, null);
+        g.dispose();
+        return sprite;
+    }
+
+    private static long bytes(BufferedImage sprite) {
+        return (long) sprite.getWidth() * sprite.getHeight() * BYTES_PER_PIXEL;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        sizeBytes = 0;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public synchronized long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+}
@@ -0,0 +1,413 @@
+package view;
+
+import model.BoardListener;
+import model.BoardModel;
+import model.entity.Ghost;
+import model.utils.ResourceManager;
+
+import java.awt.*;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.image.BufferStrategy;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Actively rendered board. Frames are drawn on a RenderScheduler's thread
+ * into a BufferStrategy back buffer as three layers: walls, baked once per level and
+ * cell size; dots and power pellets, erased cell by cell as they are eaten;
+ * and the entities (boosts, Pacman, ghosts), drawn fresh on top. Boards too
+ * large to fit at MIN_CELL_SIZE show a window that follows Pacman, and the
+ * static layers cover only that window.
+ */
+public class BoardCanvas extends Canvas implements BoardListener {
+    private static final int MIN_CELL_SIZE = 10;
+    private static final int GHOST_COLORS = 4;
+    private static final int GHOST_FRAMES = 2;
+    private static final byte UNDRAWN = -1;
+
+    private final BoardModel boardModel;
+    private final List<Ghost> ghosts;
+    private final ResourceManager resourceManager;
+    private final int[] tileHandles = new int[BoardModel.TILE_TYPES];
+    private final int[] ghostHandles = new int[GHOST_COLORS * GHOST_FRAMES];
+    private final int[] ghostColors;
+    // Sprites resolved at the start of each frame, indexed like the handles
+    private final Image[] tileSprites = new Image[BoardModel.TILE_TYPES];
+    private final Image[] ghostSprites = new Image[GHOST_COLORS * GHOST_FRAMES];
+    private volatile int pacmanDirection;
+    private volatile int pacmanFrame;
+    private volatile boolean layoutValid;
+    private volatile boolean layersValid;
+    private volatile RenderScheduler renderScheduler;
+
+    // Layout and layers, owned by whichever thread is rendering
+    private int cellSize;
+    private int originX;
+    private int originY;
+    private int visibleRows;
+    private int visibleCols;
+    private int firstRow;
+    private int firstCol;
+    private BufferedImage wallLayer;
+    private BufferedImage dotLayer;
+    // Walls with dots over them, so a frame starts with one opaque blit
+    private BufferedImage background;
+    // Tile each visible cell was last drawn as in the static layers
+    private byte[] layerTiles = new byte[0];
+    // Visible cells whose layer tile is a boost; boosts are drawn over the background each frame
+    private int[] boostCells = new int[16];
+    private int boostCount;
+    private int[] pending = new int[64];
+    private int pendingCount;
+    private volatile int lastFrameCells;
+    private volatile long cellsRepainted;
+    private volatile long framesRendered;
+
+    public BoardCanvas(BoardModel boardModel, List<Ghost> ghosts) {
+        this.boardModel = boardModel;
+        this.ghosts = ghosts;
+        this.resourceManager = ResourceManager.getInstance();
+        for (int type = 0; type < tileHandles.length; type++) {
+            int sprite = resourceManager.tileSprite(type);
+            tileHandles[type] = (sprite == ResourceManager.NO_SPRITE) ? sprite : resourceManager.handle(sprite, 0, 0);
+        }
+        for (int color = 0; color < GHOST_COLORS; color++) {
+            for (int frame = 0; frame < GHOST_FRAMES; frame++) {
+                ghostHandles[color * GHOST_FRAMES + frame] =
+                        resourceManager.handle(ResourceManager.SPRITE_GHOST_RED + color, 0, frame);
+            }
+        }
+        ghostColors = new int[ghosts.size()];
+        for (int slot = 0; slot < ghostColors.length; slot++) {
+            ghostColors[slot] = resourceManager.ghostSprite(ghosts.get(slot).getPersonality()) - ResourceManager.SPRITE_GHOST_RED;
+        }
+
+        boardModel.addBoardListener(this);
+
+        setBackground(Color.BLACK);
+        setFocusable(false);
+        addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                invalidateLayout();
+            }
+        });
+    }
+
+    public void setRenderScheduler(RenderScheduler renderScheduler) {
+        this.renderScheduler = renderScheduler;
+    }
+
+    public void setPacmanState(int direction, int frame) {
+        pacmanDirection = direction;
+        pacmanFrame = frame;
+        requestRender();
+    }
+
+    public void invalidateLayout() {
+        layoutValid = false;
+        requestRender();
+    }
+
+    private void requestRender() {
+        RenderScheduler scheduler = renderScheduler;
+        if (scheduler != null) scheduler.requestRender();
+    }
+
+    // Only reached when the window system exposes the canvas; the frame itself is drawn off the EDT.
+    @Override
+    public void paint(Graphics g) {
+        requestRender();
+    }
+
+    @Override
+    public void update(Graphics g) {
+        requestRender();
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        createBufferStrategy(2);
+        RenderScheduler scheduler = renderScheduler;
+        if (scheduler != null) scheduler.start();
+    }
+
+    @Override
+    public void removeNotify() {
+        RenderScheduler scheduler = renderScheduler;
+        if (scheduler != null) scheduler.stop();
+        boardModel.removeBoardListener(this);
+        super.removeNotify();
+    }
+
+    void renderFrame() {
+        BufferStrategy strategy = getBufferStrategy();
+        if (strategy == null || getWidth() == 0 || getHeight() == 0) return;
+        try {
+            do {
+                do {
+                    Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
+                    try {
+                        paintBoard(g);
+                    } finally {
+                        g.dispose();
+                    }
+                } while (strategy.contentsRestored());
+                strategy.show();
+            } while (strategy.contentsLost());
+        } catch (IllegalStateException e) {
+            // Peer went away between frames; removeNotify is stopping the scheduler
+            return;
+        }
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    public void paintBoard(Graphics2D g) {
+        boolean rebuild = !layersValid || !layoutValid;
+        layersValid = true;
+        if (!layoutValid) computeLayout();
+        pendingCount = 0;
+        boardModel.publishChanges();
+        rebuild |= moveWindow();
+        resolveSprites();
+
+        int cells = rebuild ? bakeLayers() : updateLayers();
+        g.drawImage(background, 0, 0, null);
+        cells += drawEntities(g);
+
+        lastFrameCells = cells;
+        cellsRepainted += cells;
+        framesRendered++;
+    }
+
+    private int bakeLayers() {
+        int width = getWidth();
+        int height = getHeight();
+        if (wallLayer == null || wallLayer.getWidth() != width || wallLayer.getHeight() != height) {
+            wallLayer = createLayer(width, height, Transparency.OPAQUE);
+            dotLayer = createLayer(width, height, Transparency.TRANSLUCENT);
+            background = createLayer(width, height, Transparency.OPAQUE);
+        }
+        if (layerTiles.length != visibleRows * visibleCols) layerTiles = new byte[visibleRows * visibleCols];
+        Arrays.fill(layerTiles, UNDRAWN);
+        boostCount = 0;
+
+        Graphics2D walls = wallLayer.createGraphics();
+        Graphics2D dots = dotLayer.createGraphics();
+        try {
+            walls.setColor(Color.BLACK);
+            walls.fillRect(0, 0, width, height);
+            dots.setComposite(AlphaComposite.Clear);
+            dots.fillRect(0, 0, width, height);
+            int size = boardModel.getSize();
+            for (int row = firstRow; row < firstRow + visibleRows; row++) {
+                for (int col = firstCol; col < firstCol + visibleCols; col++) {
+                    drawLayerCell(walls, dots, row * size + col, row, col);
+                }
+            }
+        } finally {
+            walls.dispose();
+            dots.dispose();
+        }
+        Graphics2D composite = background.createGraphics();
+        composite.drawImage(wallLayer, 0, 0, null);
+        composite.drawImage(dotLayer, 0, 0, null);
+        composite.dispose();
+        return visibleRows * visibleCols;
+    }
+
+    // Dirty cells whose tile is unchanged (a ghost passing over) leave the layers alone.
+    private int updateLayers() {
+        if (pendingCount == 0) return 0;
+        Graphics2D walls = wallLayer.createGraphics();
+        Graphics2D dots = dotLayer.createGraphics();
+        Graphics2D composite = background.createGraphics();
+        int updated = 0;
+        try {
+            walls.setColor(Color.BLACK);
+            int size = boardModel.getSize();
+            for (int i = 0; i < pendingCount; i++) {
+                int index = pending[i];
+                int row = index / size;
+                int col = index - row * size;
+                if (row < firstRow || row >= firstRow + visibleRows || col < firstCol || col >= firstCol + visibleCols) continue;
+                if (layerTiles[(row - firstRow) * visibleCols + (col - firstCol)] == boardModel.getTileFast(index)) continue;
+                drawLayerCell(walls, dots, index, row, col);
+                int x = originX + (col - firstCol) * cellSize;
+                int y = originY + (row - firstRow) * cellSize;
+                composite.drawImage(wallLayer, x, y, x + cellSize, y + cellSize, x, y, x + cellSize, y + cellSize, null);
+                composite.drawImage(dotLayer, x, y, x + cellSize, y + cellSize, x, y, x + cellSize, y + cellSize, null);
+                updated++;
+            }
+        } finally {
+            walls.dispose();
+            dots.dispose();
+            composite.dispose();
+        }
+        return updated;
+    }
+
+    private void drawLayerCell(Graphics2D walls, Graphics2D dots, int index, int row, int col) {
+        int tile = boardModel.getTileFast(index);
+        int x = originX + (col - firstCol) * cellSize;
+        int y = originY + (row - firstRow) * cellSize;
+        int slot = (row - firstRow) * visibleCols + (col - firstCol);
+        int previous = layerTiles[slot];
+        layerTiles[slot] = (byte) tile;
+        if (isBoost(previous)) removeBoost(index);
+        if (isBoost(tile)) addBoost(index);
+        if (previous == BoardModel.WALL || tile == BoardModel.WALL) {
+            walls.fillRect(x, y, cellSize, cellSize);
+            if (tile == BoardModel.WALL) walls.drawImage(tileSprites[BoardModel.WALL], x, y, null);
+        }
+        if (isDot(previous) || isDot(tile)) {
+            dots.setComposite(AlphaComposite.Clear);
+            dots.fillRect(x, y, cellSize, cellSize);
+            dots.setComposite(AlphaComposite.SrcOver);
+            if (isDot(tile)) dots.drawImage(tileSprites[tile], x, y, null);
+        }
+    }
+
+    private static boolean isDot(int tile) {
+        return tile == BoardModel.DOT || tile == BoardModel.BIG_DOT;
+    }
+
+    private static boolean isBoost(int tile) {
+        return tile >= BoardModel.BOOST_HEALTH && tile <= BoardModel.BOOST_SHIELD;
+    }
+
+    private void addBoost(int index) {
+        if (boostCount == boostCells.length) boostCells = Arrays.copyOf(boostCells, boostCount * 2);
+        boostCells[boostCount++] = index;
+    }
+
+    private void removeBoost(int index) {
+        for (int i = 0; i < boostCount; i++) {
+            if (boostCells[i] == index) {
+                boostCells[i] = boostCells[--boostCount];
+                return;
+            }
+        }
+    }
+
+    private int drawEntities(Graphics2D g) {
+        int size = boardModel.getSize();
+        int drawn = 0;
+        // Boosts come from the layer bookkeeping, not the board, so the frame sees the tiles it baked
+        for (int i = 0; i < boostCount; i++) {
+            int index = boostCells[i];
+            int row = index / size;
+            int col = index - row * size;
+            int tile = layerTiles[(row - firstRow) * visibleCols + (col - firstCol)];
+            if (drawSprite(g, tileSprites[tile], row, col)) drawn++;
+        }
+        int pacman = boardModel.getPacmanIndex();
+        if (pacman >= 0) {
+            Image sprite = resourceManager.getSprite(
+                    resourceManager.handle(ResourceManager.SPRITE_PACMAN, pacmanDirection, pacmanFrame), cellSize);
+            if (drawSprite(g, sprite, pacman / size, pacman % size)) drawn++;
+        }
+        // Ghosts last: one standing on Pacman's cell is what the player should see.
+        for (int slot = 0; slot < ghostColors.length; slot++) {
+            Ghost ghost = ghosts.get(slot);
+            if (drawSprite(g, ghostSprite(slot), ghost.getY(), ghost.getX())) drawn++;
+        }
+        return drawn;
+    }
+
+    private boolean drawSprite(Graphics2D g, Image sprite, int row, int col) {
+        if (sprite == null || row < firstRow || row >= firstRow + visibleRows || col < firstCol || col >= firstCol + visibleCols) {
+            return false;
+        }
+        g.drawImage(sprite, originX + (col - firstCol) * cellSize, originY + (row - firstRow) * cellSize, null);
+        return true;
+    }
+
+    private BufferedImage createLayer(int width, int height, int transparency) {
+        GraphicsConfiguration config = getGraphicsConfiguration();
+        if (config != null) return config.createCompatibleImage(width, height, transparency);
+        return new BufferedImage(width, height,
+                transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+    }
+
+    @Override
+    public void cellsChanged(int[] cells, int count) {
+        while (pendingCount + count > pending.length) pending = Arrays.copyOf(pending, pending.length * 2);
+        System.arraycopy(cells, 0, pending, pendingCount, count);
+        pendingCount += count;
+    }
+
+    @Override
+    public void boardChanged() {
+        layersValid = false;
+        requestRender();
+    }
+
+    @Override
+    public void changesPending() {
+        requestRender();
+    }
+
+    // Recentres on Pacman only when it nears the edge of the window, since a move rebakes the layers.
+    private boolean moveWindow() {
+        int size = boardModel.getSize();
+        int pacman = boardModel.getPacmanIndex();
+        if (pacman < 0) return false;
+        int row = firstVisible(pacman / size, firstRow, visibleRows, size);
+        int col = firstVisible(pacman % size, firstCol, visibleCols, size);
+        if (row == firstRow && col == firstCol) return false;
+        firstRow = row;
+        firstCol = col;
+        return true;
+    }
+
+    private static int firstVisible(int focus, int first, int visible, int size) {
+        int margin = visible / 4;
+        if (focus >= first + margin && focus < first + visible - margin) return first;
+        return Math.max(0, Math.min(size - visible, focus - visible / 2));
+    }
+
+    public int getCellsRepaintedLastFrame() {
+        return lastFrameCells;
+    }
+
+    public long getCellsRepainted() {
+        return cellsRepainted;
+    }
+
+    public long getFramesRendered() {
+        return framesRendered;
+    }
+
+    private void computeLayout() {
+        layoutValid = true;
+        int size = boardModel.getSize();
+        int width = getWidth();
+        int height = getHeight();
+        cellSize = Math.max(MIN_CELL_SIZE, Math.min(width / size, height / size));
+        visibleCols = Math.min(size, (width + cellSize - 1) / cellSize);
+        visibleRows = Math.min(size, (height + cellSize - 1) / cellSize);
+        originX = Math.max(0, (width - visibleCols * cellSize) / 2);
+        originY = Math.max(0, (height - visibleRows * cellSize) / 2);
+        firstRow = Math.max(0, Math.min(firstRow, size - visibleRows));
+        firstCol = Math.max(0, Math.min(firstCol, size - visibleCols));
+    }
+
+    private void resolveSprites() {
+        for (int type = 0; type < tileHandles.length; type++) {
+            int handle = tileHandles[type];
+            tileSprites[type] = (handle == ResourceManager.NO_SPRITE) ? null : resourceManager.getSprite(handle, cellSize);
+        }
+        for (int i = 0; i < ghostHandles.length; i++) {
+            ghostSprites[i] = resourceManager.getSprite(ghostHandles[i], cellSize);
+        }
+    }
+
+    private Image ghostSprite(int slot) {
+        if (slot < 0 || slot >= ghostColors.length) return null;
+        return ghostSprites[ghostColors[slot] * GHOST_FRAMES + (ghosts.get(slot).getAnimationFrame() == 2 ? 1 : 0)];
+    }
+}
@@ -39,8 +39,9 @@ public class GameView extends JFrame {
 
         int cellSize = 20;
         int boardSize = boardModel.getSize();
-        int frameWidth = boardSize * cellSize + 50;
-        int frameHeight = boardSize * cellSize + 100;
+        Dimension screen = Toolkit.getDefaultToolkit().getScreenSize();
+        int frameWidth = Math.min(boardSize * cellSize + 50, screen.width);
+        int frameHeight = Math.min(boardSize * cellSize + 100, screen.height);
         setSize(frameWidth, frameHeight);
         setLocationRelativeTo(null);
     }
@@ -1,5 +1,6 @@
 package view;
 
+import model.config.GameConstants;
 import model.utils.ResourceManager;
 
 import javax.swing.*;
@@ -70,13 +71,13 @@ public class MainMenuView extends JFrame {
     }
 
     public int showBoardSizeDialog() {
-        String sizeStr = JOptionPane.showInputDialog(this, "Enter the size of the board (10-100):", "Board Size", JOptionPane.QUESTION_MESSAGE);
+        String sizeStr = JOptionPane.showInputDialog(this, "Enter the size of the board (" + GameConstants.MIN_BOARD_SIZE + "-" + GameConstants.MAX_BOARD_SIZE + "):", "Board Size", JOptionPane.QUESTION_MESSAGE);
         try {
             int size = Integer.parseInt(sizeStr);
-            if (size >= 10 && size <= 100) {
+            if (size >= GameConstants.MIN_BOARD_SIZE && size <= GameConstants.MAX_BOARD_SIZE) {
                 return size;
             } else {
-                JOptionPane.showMessageDialog(this, "Please enter a number between 10 and 100", "Invalid Input", JOptionPane.ERROR_MESSAGE);
+                JOptionPane.showMessageDialog(this, "Please enter a number between " + GameConstants.MIN_BOARD_SIZE + " and " + GameConstants.MAX_BOARD_SIZE, "Invalid Input", JOptionPane.ERROR_MESSAGE);
                 return -1;
             }
         } catch (NumberFormatException e) {
@@ -0,0 +1,164 @@
+package view;
+
+import javax.swing.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Single frame pacer for the game view. Any thread may signal that state
+ * changed; signals arriving before the next frame collapse into one through
+ * a lock-free flag, so a burst of ghost moves costs one render rather than
+ * one EDT runnable each. Frames run on the scheduler's own thread at most
+ * targetFps times a second, or as soon as something changes when UNCAPPED.
+ * Swing-side work (the status labels) is posted at most once per frame, with
+ * only one runnable in the EDT queue at a time.
+ */
+public class RenderScheduler implements Runnable {
+    public static final int UNCAPPED = 0;
+
+    private final Runnable renderer;
+    private final Runnable swingTask;
+    private final long frameNanos;
+    private final AtomicBoolean renderRequested = new AtomicBoolean(true);
+    private final AtomicBoolean swingRequested = new AtomicBoolean(true);
+    private final AtomicBoolean swingQueued = new AtomicBoolean();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private volatile boolean running;
+    private volatile Thread thread;
+
+    // Written by the scheduler thread (frames) and the EDT (latency) only
+    private volatile long frames;
+    private volatile long frameNanosTotal;
+    private volatile long frameNanosMax;
+    private volatile long swingPosts;
+    private volatile long swingLatencyTotal;
+    private volatile long swingLatencyMax;
+    private volatile long swingPostedAt;
+
+    public RenderScheduler(Runnable renderer, Runnable swingTask, int targetFps) {
+        this.renderer = renderer;
+        this.swingTask = swingTask;
+        this.frameNanos = (targetFps <= UNCAPPED) ? 0 : TimeUnit.SECONDS.toNanos(1) / targetFps;
+    }
+
+    public void requestRender() {
+        requests.increment();
+        if (renderRequested.get() || !renderRequested.compareAndSet(false, true)) {
+            coalesced.increment();
+            return;
+        }
+        LockSupport.unpark(thread);
+    }
+
+    public void requestSwingUpdate() {
+        swingRequested.set(true);
+        requestRender();
+    }
+
+    public void start() {
+        if (running) return;
+        running = true;
+        Thread renderThread = new Thread(this, "board-render");
+        renderThread.setDaemon(true);
+        thread = renderThread;
+        renderThread.start();
+    }
+
+    public void stop() {
+        running = false;
+        Thread current = thread;
+        thread = null;
+        if (current == null) return;
+        LockSupport.unpark(current);
+        if (current == Thread.currentThread()) return;
+        try {
+            current.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void run() {
+        long deadline = System.nanoTime();
+        while (running) {
+            if (!renderRequested.get()) {
+                LockSupport.park(this);
+                continue;
+            }
+            long start = System.nanoTime();
+            if (start < deadline) {
+                // Requests arriving during this wait fold into the coming frame
+                LockSupport.parkNanos(this, deadline - start);
+                continue;
+            }
+            renderRequested.set(false);
+            renderer.run();
+            long elapsed = System.nanoTime() - start;
+            frames++;
+            frameNanosTotal += elapsed;
+            if (elapsed > frameNanosMax) frameNanosMax = elapsed;
+            if (swingTask != null && swingRequested.get()) postSwingTask();
+            // Keep the cadence after a late frame, but don't bank frames while idle
+            deadline = (start - deadline > frameNanos) ? start + frameNanos : deadline + frameNanos;
+        }
+    }
+
+    private void postSwingTask() {
+        if (!swingQueued.compareAndSet(false, true)) return;
+        swingRequested.set(false);
+        swingPostedAt = System.nanoTime();
+        swingPosts++;
+        SwingUtilities.invokeLater(() -> {
+            long latency = System.nanoTime() - swingPostedAt;
+            swingLatencyTotal += latency;
+            if (latency > swingLatencyMax) swingLatencyMax = latency;
+            swingQueued.set(false);
+            swingTask.run();
+        });
+    }
+
+    public long getFrames() {
+        return frames;
+    }
+
+    public double getAverageFrameMillis() {
+        long count = frames;
+        return (count == 0) ? 0 : frameNanosTotal / 1e6 / count;
+    }
+
+    public double getMaxFrameMillis() {
+        return frameNanosMax / 1e6;
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getCoalescedRequests() {
+        return coalesced.sum();
+    }
+
+    public long getSwingPosts() {
+        return swingPosts;
+    }
+
+    public double getAverageSwingLatencyMillis() {
+        long count = swingPosts;
+        return (count == 0) ? 0 : swingLatencyTotal / 1e6 / count;
+    }
+
+    public double getMaxSwingLatencyMillis() {
+        return swingLatencyMax / 1e6;
+    }
+
+    public String summary() {
+        return String.format("%d frames, %.2f ms avg / %.2f ms max; %d requests, %d coalesced; "
+                        + "%d EDT posts, %.2f ms avg / %.2f ms max latency",
+                getFrames(), getAverageFrameMillis(), getMaxFrameMillis(), getRequests(), getCoalescedRequests(),
+                getSwingPosts(), getAverageSwingLatencyMillis(), getMaxSwingLatencyMillis());
+    }
+}